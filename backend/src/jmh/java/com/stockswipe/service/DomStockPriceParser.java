@@ -0,0 +1,96 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.StockPriceItem;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * StAX 파서 도입 전의 DOM 파싱 (벤치마크 기준선)
+ * - 응답 전체를 String으로 받은 뒤 DOM 트리를 만들고 getElementsByTagName으로 필드 조회
+ * - 예전 StockApiService.fetchDocument / applyItem / getElementText 그대로
+ */
+class DomStockPriceParser {
+
+    /**
+     * @return totalCount
+     */
+    int parse(String response, Consumer<StockPriceItem> sink) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document doc = builder.parse(new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+
+        NodeList items = doc.getElementsByTagName("item");
+        for (int i = 0; i < items.getLength(); i++) {
+            Element element = (Element) items.item(i);
+            StockPriceItem item = new StockPriceItem();
+            item.setBasDt(getElementText(element, "basDt"));
+            item.setSrtnCd(getElementText(element, "srtnCd"));
+            item.setIsinCd(getElementText(element, "isinCd"));
+            item.setItmsNm(getElementText(element, "itmsNm"));
+            item.setMrktCtg(getElementText(element, "mrktCtg"));
+            item.setClpr(getElementLong(element, "clpr"));
+            item.setVs(getElementLong(element, "vs"));
+            item.setFltRt(getElementDouble(element, "fltRt"));
+            item.setMkp(getElementLong(element, "mkp"));
+            item.setHipr(getElementLong(element, "hipr"));
+            item.setLopr(getElementLong(element, "lopr"));
+            item.setTrqu(getElementLong(element, "trqu"));
+            item.setTrPrc(getElementLong(element, "trPrc"));
+            item.setLstgStCnt(getElementLong(element, "lstgStCnt"));
+            item.setMrktTotAmt(getElementLong(element, "mrktTotAmt"));
+            sink.accept(item);
+        }
+        return parseTotalCount(doc);
+    }
+
+    private int parseTotalCount(Document doc) {
+        NodeList nodes = doc.getElementsByTagName("totalCount");
+        if (nodes.getLength() > 0) {
+            try {
+                return Integer.parseInt(nodes.item(0).getTextContent().trim());
+            } catch (NumberFormatException e) {
+                // 무시
+            }
+        }
+        return 0;
+    }
+
+    private String getElementText(Element parent, String tagName) {
+        NodeList nodeList = parent.getElementsByTagName(tagName);
+        if (nodeList.getLength() > 0) {
+            return nodeList.item(0).getTextContent();
+        }
+        return null;
+    }
+
+    private Long getElementLong(Element parent, String tagName) {
+        String text = getElementText(parent, tagName);
+        if (text != null && !text.isEmpty()) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                // 무시
+            }
+        }
+        return null;
+    }
+
+    private Double getElementDouble(Element parent, String tagName) {
+        String text = getElementText(parent, tagName);
+        if (text != null && !text.isEmpty()) {
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                // 무시
+            }
+        }
+        return null;
+    }
+}
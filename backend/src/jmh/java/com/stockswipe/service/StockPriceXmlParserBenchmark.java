@@ -0,0 +1,72 @@
+package com.stockswipe.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주가 API 응답 1페이지 파싱: StAX(StockPriceXmlParser) vs 예전 DOM 파싱
+ * - 입력: itemCount개 종목의 합성 응답 (numOfRows=1000 실제 페이지 크기와 같은 구조)
+ * - DOM은 예전 경로처럼 String 응답에서 시작, StAX는 응답 바이트 스트림에서 시작
+ * - 실행: mvn -Pjmh test-compile exec:exec -Djmh.args="StockPriceXmlParserBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class StockPriceXmlParserBenchmark {
+
+    @Param({"1000", "3000"})
+    private int itemCount;
+
+    private String response;
+    private byte[] responseBytes;
+    private final StockPriceXmlParser staxParser = new StockPriceXmlParser();
+    private final DomStockPriceParser domParser = new DomStockPriceParser();
+
+    @Setup
+    public void setUp() {
+        response = page(itemCount);
+        responseBytes = response.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int stax(Blackhole blackhole) throws Exception {
+        return staxParser.parse(new ByteArrayInputStream(responseBytes), blackhole::consume);
+    }
+
+    @Benchmark
+    public int dom(Blackhole blackhole) throws Exception {
+        return domParser.parse(response, blackhole::consume);
+    }
+
+    static String page(int itemCount) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>")
+                .append("<body><numOfRows>").append(itemCount).append("</numOfRows><pageNo>1</pageNo>")
+                .append("<totalCount>").append(itemCount).append("</totalCount><items>");
+        for (int i = 0; i < itemCount; i++) {
+            String code = String.format(Locale.ROOT, "%06d", i * 7 % 1_000_000);
+            long close = 1000 + (i % 400) * 500L;
+            long change = (i % 41 - 20) * close / 1000;
+            long shares = 10_000_000L + (i % 500) * 1_000_000L;
+            xml.append("<item><basDt>20240701</basDt><srtnCd>").append(code).append("</srtnCd>")
+                    .append("<isinCd>KR7").append(code).append("003</isinCd><itmsNm>종목").append(i).append("</itmsNm>")
+                    .append("<mrktCtg>").append(i % 3 == 0 ? "KOSDAQ" : "KOSPI").append("</mrktCtg>")
+                    .append("<clpr>").append(close).append("</clpr><vs>").append(change).append("</vs>")
+                    .append("<fltRt>").append(String.format(Locale.ROOT, "%.2f", change * 100.0 / (close - change))).append("</fltRt>")
+                    .append("<mkp>").append(close - change).append("</mkp><hipr>").append(close + close / 50)
+                    .append("</hipr><lopr>").append(close - close / 50).append("</lopr>")
+                    .append("<trqu>").append(10_000 + i * 31L).append("</trqu><trPrc>").append((10_000 + i * 31L) * close)
+                    .append("</trPrc><lstgStCnt>").append(shares).append("</lstgStCnt>")
+                    .append("<mrktTotAmt>").append(shares * close).append("</mrktTotAmt></item>");
+        }
+        return xml.append("</items></body></response>").toString();
+    }
+}
@@ -0,0 +1,142 @@
+package com.stockswipe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.stockswipe.dto.CategoryDTO;
+import com.stockswipe.dto.ChartDataDTO;
+import com.stockswipe.dto.NewsDTO;
+import com.stockswipe.dto.StockDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 종목 목록 직렬화: JSON vs CBOR (StockResponseCache가 하는 작업)
+ * - 입력: stockCount개 종목의 합성 StockDTO (키워드 5개, 차트 30개, 뉴스 3건 - 전체 필드)
+ * - ObjectMapper는 JacksonConfig와 같은 설정 (기본 serializeAll 필터, CBOR는 같은 빌더 + CBORFactory)
+ * - *Gzip은 직렬화 + gzip (캐시에 넣는 바이트 전체)
+ * - 본문 크기는 Setup에서 출력 (identity / gzip bytes)
+ * - 실행: mvn -Pjmh test-compile exec:exec -Djmh.args="StockResponseFormatBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class StockResponseFormatBenchmark {
+
+    @Param({"160", "2800"})
+    private int stockCount;
+
+    private List<StockDTO> stocks;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+        jsonMapper = builder.build();
+        cborMapper = builder.factory(new CBORFactory()).build();
+        stocks = stocks(stockCount);
+
+        byte[] json = jsonMapper.writeValueAsBytes(stocks);
+        byte[] cbor = cborMapper.writeValueAsBytes(stocks);
+        System.out.printf(Locale.ROOT, "%n[%d종목] JSON %,d bytes (gzip %,d) / CBOR %,d bytes (gzip %,d)%n",
+                stockCount, json.length, gzip(json).length, cbor.length, gzip(cbor).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return jsonMapper.writeValueAsBytes(stocks);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cborMapper.writeValueAsBytes(stocks);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(jsonMapper.writeValueAsBytes(stocks));
+    }
+
+    @Benchmark
+    public byte[] cborGzip() throws IOException {
+        return gzip(cborMapper.writeValueAsBytes(stocks));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(512, data.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    static List<StockDTO> stocks(int stockCount) {
+        String[][] categories = {{"BIO", "바이오"}, {"AI", "AI"}, {"SHIP", "선박"}, {"FOOD", "식품"},
+                {"ENERGY", "에너지"}, {"SEMI", "반도체"}, {"FIN", "금융"}, {"BATTERY", "2차전지"}};
+        List<CategoryDTO> categoryDTOs = new ArrayList<>();
+        for (int i = 0; i < categories.length; i++) {
+            categoryDTOs.add(new CategoryDTO((long) i + 1, categories[i][0], categories[i][1]));
+        }
+
+        List<StockDTO> stocks = new ArrayList<>(stockCount);
+        for (int i = 0; i < stockCount; i++) {
+            String code = String.format(Locale.ROOT, "%06d", i * 7 % 1_000_000);
+            long close = 1000 + (i % 400) * 500L;
+            long change = (i % 41 - 20) * close / 1000;
+            long shares = 10_000_000L + (i % 500) * 1_000_000L;
+
+            StockDTO stock = new StockDTO();
+            stock.setId(code);
+            stock.setName("종목" + i);
+            stock.setCategory(categoryDTOs.get(i % categoryDTOs.size()));
+            stock.setBasDt("20240701");
+            stock.setIsinCd("KR7" + code + "003");
+            stock.setMrktCtg(i % 3 == 0 ? "KOSDAQ" : "KOSPI");
+            stock.setClpr(close);
+            stock.setVs(change);
+            stock.setFltRt(Math.round(change * 10000.0 / (close - change)) / 100.0);
+            stock.setMkp(close - change);
+            stock.setHipr(close + close / 50);
+            stock.setLopr(close - close / 50);
+            stock.setTrqu(10_000 + i * 31L);
+            stock.setTrPrc((10_000 + i * 31L) * close);
+            stock.setLstgStCnt(shares);
+            stock.setMrktTotAmt(shares * close);
+            stock.setDescription("종목" + i + "은(는) 국내 상장 기업으로 주력 제품의 생산과 판매를 주요 사업으로 영위하고 있습니다.");
+            stock.setBusiness("주요 사업: 제조, 유통, 해외 수출. 최근 신규 설비 투자로 생산 능력을 확대하고 있습니다.");
+            stock.setKeywords(List.of("키워드" + i % 50, "성장", "수출", "실적", "신사업"));
+
+            List<ChartDataDTO> chart = new ArrayList<>(30);
+            for (int d = 0; d < 30; d++) {
+                chart.add(new ChartDataDTO(String.format(Locale.ROOT, "2024-06-%02d", d + 1),
+                        (double) (close + (d % 7 - 3) * close / 100)));
+            }
+            stock.setChartData(chart);
+
+            List<NewsDTO> news = new ArrayList<>(3);
+            for (int n = 0; n < 3; n++) {
+                news.add(new NewsDTO(code + "-" + n, "종목" + i + " 관련 뉴스 제목 " + n,
+                        "종목" + i + " 관련 뉴스 요약입니다. 실적과 업황에 대한 내용을 담고 있습니다.",
+                        "https://news.example.com/articles/" + code + "/" + n, "예시뉴스",
+                        n == 0 ? "POSITIVE" : n == 1 ? "NEGATIVE" : "NEUTRAL", 0.25 * (n + 1)));
+            }
+            stock.setNews(news);
+            stocks.add(stock);
+        }
+        return stocks;
+    }
+}
@@ -0,0 +1,33 @@
+package com.stockswipe.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * @JsonFilter가 붙은 DTO는 기본적으로 모든 필드를 출력
+     * - ?fields= 요청 시에만 컨트롤러에서 MappingJacksonValue로 필터 지정
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultPropertyFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * Accept: application/cbor 응답용 컨버터
+     * - JSON과 같은 설정(필터 등)을 쓰도록 Spring Boot의 빌더로 생성 (JSON은 기본값 유지)
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,14 @@
+package com.stockswipe.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 수집 스케줄러 활성화 (ingest.scheduler.enabled=false로 끌 수 있음)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "ingest.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
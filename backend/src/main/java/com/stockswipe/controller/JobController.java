@@ -0,0 +1,40 @@
+package com.stockswipe.controller;
+
+import com.stockswipe.dto.JobDTO;
+import com.stockswipe.service.Job;
+import com.stockswipe.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 비동기 작업 상태 조회/취소
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+    
+    private final JobService jobService;
+    
+    /**
+     * 작업 진행 상황 (done/total, 실패 수, 처리량, 예상 남은 시간)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobDTO> getJob(@PathVariable String jobId) {
+        return jobService.find(jobId)
+                .map(job -> ResponseEntity.ok(job.toDTO()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * 작업 취소 (이미 끝난 작업은 상태만 반환)
+     */
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<JobDTO> cancelJob(@PathVariable String jobId) {
+        return jobService.cancel(jobId)
+                .map(Job::toDTO)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
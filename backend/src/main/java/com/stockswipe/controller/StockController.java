@@ -1,18 +1,40 @@
 package com.stockswipe.controller;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.stockswipe.dto.CategoryDTO;
-import com.stockswipe.dto.StockDTO;
+import com.stockswipe.dto.FeedPageDTO;
+import com.stockswipe.dto.JobDTO;
+import com.stockswipe.dto.StockFields;
 import com.stockswipe.service.GoogleNewsCrawler;
+import com.stockswipe.service.IngestRun;
+import com.stockswipe.service.Job;
 import com.stockswipe.service.OpenAiService;
+import com.stockswipe.service.PriceBackfillService;
+import com.stockswipe.service.JobService;
+import com.stockswipe.service.ResourceVersion;
 import com.stockswipe.service.StockApiService;
+import com.stockswipe.service.StockResponseCache;
+import com.stockswipe.service.StockResponseCache.CachedBody;
+import com.stockswipe.service.StockResponseCache.Format;
 import com.stockswipe.service.StockService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api")
@@ -20,18 +42,77 @@ import java.util.Map;
 public class StockController {
     
     private final StockService stockService;
+    private final StockResponseCache stockResponseCache;
     private final StockApiService stockApiService;
     private final OpenAiService openAiService;
     private final GoogleNewsCrawler googleNewsCrawler;
+    private final PriceBackfillService priceBackfillService;
+    private final JobService jobService;
     
+    /**
+     * 전체 종목 조회
+     * - fields: 필요한 필드만 응답 (예: ?fields=name,category,clpr,fltRt)
+     */
     @GetMapping("/stocks")
-    public ResponseEntity<List<StockDTO>> getAllStocks() {
-        return ResponseEntity.ok(stockService.getAllStocks());
+    public ResponseEntity<?> getAllStocks(
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        StockFields stockFields = StockFields.parse(fields);
+        boolean cbor = prefersCbor(webRequest);
+        boolean gzip = stockFields.isAll() && acceptsGzip(webRequest);
+        if (notModified(webRequest, representation(webRequest, stockService.versionOfAllStocks(stockFields), cbor, gzip))) {
+            return null;
+        }
+        if (stockFields.isAll()) {
+            Optional<CachedBody> cached = stockResponseCache.allStocks(cbor ? Format.CBOR : Format.JSON);
+            if (cached.isPresent()) {
+                return preSerialized(cached.get(), cbor, gzip);
+            }
+        }
+        return ResponseEntity.ok(withFields(stockService.getAllStocks(stockFields), stockFields));
+    }
+    
+    /**
+     * 델타 동기화 - since 버전 이후 변경/삭제된 종목만 조회
+     * - 응답의 version을 다음 요청의 since로 사용
+     */
+    @GetMapping("/stocks/changes")
+    public ResponseEntity<MappingJacksonValue> getStockChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) String fields) {
+        StockFields stockFields = StockFields.parse(fields);
+        return ResponseEntity.ok(withFields(stockService.getChangesSince(since), stockFields));
     }
     
     @GetMapping("/stocks/{stockId}")
-    public ResponseEntity<StockDTO> getStockById(@PathVariable String stockId) {
-        return ResponseEntity.ok(stockService.getStockById(stockId));
+    public ResponseEntity<MappingJacksonValue> getStockById(
+            @PathVariable String stockId,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        StockFields stockFields = StockFields.parse(fields);
+        if (notModified(webRequest, representation(webRequest, stockService.versionOfStock(stockId, stockFields),
+                prefersCbor(webRequest), false))) {
+            return null;
+        }
+        return ResponseEntity.ok(withFields(stockService.getStockById(stockId, stockFields), stockFields));
+    }
+    
+    /**
+     * 스와이프 피드 (경량 카드, 커서 기반 페이지네이션)
+     * - 예: /api/feed?limit=20&categories=semi,bio
+     * - 다음 페이지: /api/feed?cursor={nextCursor}
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<FeedPageDTO> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "") List<String> categories,
+            WebRequest webRequest) {
+        if (notModified(webRequest, representation(webRequest, stockService.versionOfFeed(cursor, limit, categories),
+                prefersCbor(webRequest), false))) {
+            return null;
+        }
+        return ResponseEntity.ok(stockService.getFeed(cursor, limit, categories));
     }
     
     @GetMapping("/categories")
@@ -40,19 +121,55 @@ public class StockController {
     }
     
     @GetMapping("/stocks/category/{categoryCode}")
-    public ResponseEntity<List<StockDTO>> getStocksByCategory(@PathVariable String categoryCode) {
-        return ResponseEntity.ok(stockService.getStocksByCategory(categoryCode));
+    public ResponseEntity<?> getStocksByCategory(
+            @PathVariable String categoryCode,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        StockFields stockFields = StockFields.parse(fields);
+        boolean cbor = prefersCbor(webRequest);
+        boolean gzip = stockFields.isAll() && acceptsGzip(webRequest);
+        if (notModified(webRequest, representation(webRequest, stockService.versionOfCategory(categoryCode, stockFields), cbor, gzip))) {
+            return null;
+        }
+        if (stockFields.isAll()) {
+            Optional<CachedBody> cached = stockResponseCache.category(categoryCode, cbor ? Format.CBOR : Format.JSON);
+            if (cached.isPresent()) {
+                return preSerialized(cached.get(), cbor, gzip);
+            }
+        }
+        return ResponseEntity.ok(withFields(stockService.getStocksByCategory(categoryCode, stockFields), stockFields));
     }
     
+    /**
+     * 여러 카테고리의 종목 조회 (body: 카테고리 코드 배열, 예: ["semi", "bio"])
+     */
+    @PostMapping("/stocks/by-categories")
+    public ResponseEntity<MappingJacksonValue> getStocksByCategories(
+            @RequestBody List<String> categoryCodes,
+            @RequestParam(required = false) String fields) {
+        StockFields stockFields = StockFields.parse(fields);
+        return ResponseEntity.ok(withFields(stockService.getStocksByCategories(categoryCodes, stockFields), stockFields));
+    }
+    
+    /**
+     * 주가 일괄 업데이트 (비동기 작업 - 202 + jobId, 진행 상황은 GET /api/jobs/{id})
+     */
     @PostMapping("/stocks/update-from-api")
-    public ResponseEntity<Map<String, String>> updateStocksFromApi() {
-        // 동기적으로 실행 (트랜잭션 보장)
-        stockApiService.updateAllStocks();
-        
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "completed");
-        response.put("message", "주식 데이터 업데이트가 완료되었습니다.");
-        return ResponseEntity.ok(response);
+    public ResponseEntity<JobDTO> updateStocksFromApi() {
+        return accepted(jobService.submit("price-update",
+                () -> Map.of("updatedCount", stockApiService.updateAllStocks())));
+    }
+    
+    /**
+     * 과거 주가 백필 (from ~ to, yyyyMMdd, 비동기 작업)
+     * - 같은 기간으로 다시 호출하면 마지막 체크포인트 다음 거래일부터 이어서 진행
+     */
+    @PostMapping("/stocks/backfill")
+    public ResponseEntity<JobDTO> backfillStockPrices(
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate from,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate to) {
+        return accepted(jobService.submit("price-backfill",
+                () -> priceBackfillService.backfill(from, to)));
     }
     
     @PostMapping("/stocks/update-one/{stockId}")
@@ -66,14 +183,15 @@ public class StockController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 전체 종목 AI 정보 생성 (비동기 작업)
+     * - changedOnly=true: 아직 생성하지 않았거나 입력(종목명, 프롬프트 버전)이 바뀐 종목만
+     */
     @PostMapping("/stocks/generate-ai-info")
-    public ResponseEntity<Map<String, String>> generateAllStocksAiInfo() {
-        openAiService.generateAllStocksInfo();
-        
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "completed");
-        response.put("message", "OpenAI 정보 생성이 완료되었습니다.");
-        return ResponseEntity.ok(response);
+    public ResponseEntity<JobDTO> generateAllStocksAiInfo(@RequestParam(defaultValue = "false") boolean changedOnly) {
+        return accepted(jobService.submit("ai-info", () -> summary(changedOnly
+                ? openAiService.generateChangedStocksInfo()
+                : openAiService.generateAllStocksInfo())));
     }
     
     @PostMapping("/stocks/generate-ai-info/{stockId}")
@@ -105,17 +223,12 @@ public class StockController {
     }
     
     /**
-     * 모든 종목의 뉴스 크롤링 (구글 뉴스)
+     * 모든 종목의 뉴스 크롤링 (구글 뉴스, 비동기 작업)
      */
     @PostMapping("/stocks/news/crawl-all")
-    public ResponseEntity<Map<String, String>> crawlAllStocksNews(
+    public ResponseEntity<JobDTO> crawlAllStocksNews(
             @RequestParam(defaultValue = "10") int count) {
-        googleNewsCrawler.crawlAllStocksNews(count);
-        
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "completed");
-        response.put("message", "모든 종목의 뉴스 크롤링이 완료되었습니다.");
-        return ResponseEntity.ok(response);
+        return accepted(jobService.submit("news-crawl", () -> summary(googleNewsCrawler.crawlAllStocksNews(count))));
     }
     
     /**
@@ -189,4 +302,113 @@ public class StockController {
         response.put("message", aiResponse);
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 비동기 작업 제출 응답 (202 Accepted + 상태 조회 URL)
+     */
+    private ResponseEntity<JobDTO> accepted(Job job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job.toDTO());
+    }
+    
+    private Map<String, Object> summary(IngestRun run) {
+        return Map.of("successCount", run.getSuccessCount(), "failCount", run.getFailCount());
+    }
+    
+    /**
+     * 미리 직렬화된 본문 응답 (Jackson을 거치지 않고 바이트 그대로 기록)
+     */
+    private ResponseEntity<byte[]> preSerialized(CachedBody body, boolean cbor, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(cbor ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? body.gzip() : body.identity());
+    }
+    
+    /**
+     * 포맷(JSON/CBOR)·인코딩(gzip)별로 응답이 달라지는 엔드포인트: Vary 헤더 설정, 표현별 ETag 구분
+     */
+    private Optional<ResourceVersion> representation(WebRequest webRequest, Optional<ResourceVersion> version,
+                                                     boolean cbor, boolean gzip) {
+        if (webRequest instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+            }
+        }
+        Optional<ResourceVersion> result = cbor ? version.map(v -> v.withVariant("cbor")) : version;
+        return gzip ? result.map(v -> v.withVariant("gzip")) : result;
+    }
+    
+    /**
+     * Accept에서 application/cbor가 JSON보다 선호되는지 (기본은 JSON)
+     */
+    private boolean prefersCbor(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || !accept.contains("cbor")) {
+            return false;
+        }
+        double cborQuality = 0;
+        double jsonQuality = 0;
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+                cborQuality = Math.max(cborQuality, mediaType.getQualityValue());
+            } else if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                jsonQuality = Math.max(jsonQuality, mediaType.getQualityValue());
+            }
+        }
+        return cborQuality > 0 && cborQuality >= jsonQuality;
+    }
+    
+    /**
+     * Accept-Encoding에 gzip(또는 *)이 q=0이 아닌 값으로 포함되어 있는지
+     */
+    private boolean acceptsGzip(WebRequest webRequest) {
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim().replace(" ", "");
+                if (param.matches("q=0(\\.0*)?")) {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * If-None-Match / If-Modified-Since 검사 (ETag, Last-Modified 헤더도 함께 설정)
+     * - 검증값은 본문보다 먼저 계산 (사이에 스냅샷이 바뀌어도 ETag가 본문보다 새것이 되지 않음)
+     * - true면 304 응답이므로 본문 없이 반환
+     */
+    private boolean notModified(WebRequest webRequest, Optional<ResourceVersion> version) {
+        return version
+                .map(v -> webRequest.checkNotModified(v.etag(), v.lastModified() > 0 ? v.lastModified() : -1))
+                .orElse(false);
+    }
+    
+    /**
+     * 선택한 필드만 JSON으로 출력되도록 StockDTO 필터 지정
+     */
+    private MappingJacksonValue withFields(Object body, StockFields fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        fields.names().ifPresent(names -> value.setFilters(new SimpleFilterProvider()
+                .addFilter(StockFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names))));
+        return value;
+    }
 }
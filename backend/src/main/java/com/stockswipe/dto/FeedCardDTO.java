@@ -0,0 +1,24 @@
+package com.stockswipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스와이프 카드용 경량 종목 정보
+ * - 상세 정보(뉴스, 기업 개요 등)는 /api/stocks/{stockId}에서 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedCardDTO {
+    private String id;
+    private String name;
+    private CategoryDTO category;
+    private Long clpr;              // 종가
+    private Double fltRt;           // 등락률
+    private Long vs;                // 전일대비
+    private List<ChartDataDTO> chartData;  // 최근 차트 포인트 몇 개
+}
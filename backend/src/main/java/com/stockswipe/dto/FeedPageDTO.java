@@ -0,0 +1,20 @@
+package com.stockswipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스와이프 피드 페이지
+ * - nextCursor: 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedPageDTO {
+    private List<FeedCardDTO> items;
+    private String nextCursor;
+    private long version;           // 스냅샷 버전
+}
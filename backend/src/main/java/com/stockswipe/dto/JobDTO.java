@@ -0,0 +1,28 @@
+package com.stockswipe.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 작업 상태 (GET /api/jobs/{id})
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobDTO {
+    private String id;
+    private String type;
+    private String status;              // RUNNING, SUCCEEDED, FAILED, CANCELLED
+    private int total;                  // 전체 처리 대상 수
+    private int done;                   // 처리 완료 수 (실패 포함)
+    private int failed;                 // 실패 수
+    private double throughputPerSecond; // 초당 처리 건수
+    private Long etaSeconds;            // 예상 남은 시간 (실행 중일 때만)
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private Object result;              // 완료 시 결과 요약
+    private String error;               // 실패 시 오류 메시지
+}
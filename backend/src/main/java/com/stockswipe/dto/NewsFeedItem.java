@@ -0,0 +1,21 @@
+package com.stockswipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 구글 뉴스 RSS 응답의 <item> 1건
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsFeedItem {
+    private String title;
+    private String link;
+    private String source;
+    private String guid;
+    private Instant pubDate;     // 없거나 형식이 다르면 null
+}
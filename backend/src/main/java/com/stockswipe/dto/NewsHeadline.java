@@ -0,0 +1,16 @@
+package com.stockswipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 감성 분석 요청 1건 (종목명 + 뉴스 제목)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsHeadline {
+    private String stockName;
+    private String title;
+}
@@ -0,0 +1,20 @@
+package com.stockswipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 뉴스 감성 분석 결과 1건
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsSentiment {
+    private String sentiment;    // POSITIVE(호재), NEGATIVE(악재), NEUTRAL(중립)
+    private Double score;        // 0.0(매우 부정) ~ 1.0(매우 긍정)
+
+    public static NewsSentiment neutral() {
+        return new NewsSentiment("NEUTRAL", 0.5);
+    }
+}
@@ -0,0 +1,22 @@
+package com.stockswipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 응답
+ * - version: 다음 요청의 since로 전달
+ * - fullResync: true면 changed에 전체 종목이 담김 (로컬 데이터를 통째로 교체)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockChangesDTO {
+    private long version;
+    private boolean fullResync;
+    private List<StockDTO> changed;
+    private List<String> removed;
+}
@@ -1,14 +1,18 @@
 package com.stockswipe.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(StockFields.FILTER_ID)
 public class StockDTO {
     private String id;
     private String name;
@@ -37,4 +41,8 @@ public class StockDTO {
     private List<String> keywords;
     private List<ChartDataDTO> chartData;
     private List<NewsDTO> news;
+    
+    // 최종 수정 시각 (주가 updatedAt, 뉴스 createdAt, 종목 updatedAt 중 최신) - Last-Modified 헤더용
+    @JsonIgnore
+    private LocalDateTime lastModified;
 }
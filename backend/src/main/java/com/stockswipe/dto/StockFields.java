@@ -0,0 +1,95 @@
+package com.stockswipe.dto;
+
+import java.util.*;
+
+/**
+ * StockDTO 필드 선택 (?fields=name,clpr,news)
+ * - JSON 출력 필드 제한 (StockDTO의 @JsonFilter)
+ * - 필요 없는 연관 데이터(주가, 키워드, 차트, 뉴스)는 조회 자체를 생략
+ * - id는 항상 포함, 알 수 없는 필드명은 무시
+ */
+public final class StockFields {
+
+    public static final String FILTER_ID = "stockFields";
+
+    public static final StockFields ALL = new StockFields(null);
+
+    private static final Set<String> MASTER_FIELDS = Set.of(
+            "id", "name", "category", "description", "business");
+
+    private static final Set<String> PRICE_FIELDS = Set.of(
+            "basDt", "isinCd", "mrktCtg", "clpr", "vs", "fltRt", "mkp",
+            "hipr", "lopr", "trqu", "trPrc", "lstgStCnt", "mrktTotAmt");
+
+    private static final Set<String> ASSOCIATION_FIELDS = Set.of("keywords", "chartData", "news");
+
+    private final Set<String> names;   // null이면 전체
+
+    private StockFields(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * 쉼표로 구분된 필드 목록 파싱 (비어 있으면 전체)
+     */
+    public static StockFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String part : fields.split(",")) {
+            String name = part.trim();
+            if (MASTER_FIELDS.contains(name) || PRICE_FIELDS.contains(name) || ASSOCIATION_FIELDS.contains(name)) {
+                names.add(name);
+            }
+        }
+        return new StockFields(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String field) {
+        return names == null || names.contains(field);
+    }
+
+    public boolean needsPrice() {
+        return names == null || names.stream().anyMatch(PRICE_FIELDS::contains);
+    }
+
+    public boolean needsKeywords() {
+        return includes("keywords");
+    }
+
+    public boolean needsChartData() {
+        return includes("chartData");
+    }
+
+    public boolean needsNews() {
+        return includes("news");
+    }
+
+    /**
+     * 선택된 필드명 (전체 선택이면 empty)
+     */
+    public Optional<Set<String>> names() {
+        return Optional.ofNullable(names);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof StockFields other && Objects.equals(names, other.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(names);
+    }
+
+    @Override
+    public String toString() {
+        return names == null ? "*" : String.join(",", names);
+    }
+}
@@ -0,0 +1,27 @@
+package com.stockswipe.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주식시세정보 API 응답의 <item> 1건
+ */
+@Data
+@NoArgsConstructor
+public class StockPriceItem {
+    private String basDt;        // 기준일자
+    private String srtnCd;       // 단축코드
+    private String isinCd;       // ISIN코드
+    private String itmsNm;       // 종목명
+    private String mrktCtg;      // 시장구분
+    private Long clpr;           // 종가
+    private Long vs;             // 대비
+    private Double fltRt;        // 등락률
+    private Long mkp;            // 시가
+    private Long hipr;           // 고가
+    private Long lopr;           // 저가
+    private Long trqu;           // 거래량
+    private Long trPrc;          // 거래대금
+    private Long lstgStCnt;      // 상장주식수
+    private Long mrktTotAmt;     // 시가총액
+}
@@ -0,0 +1,44 @@
+package com.stockswipe.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 작업 체크포인트
+ * - 작업 이름별로 마지막으로 완료한 위치(cursor)를 저장
+ * - 서버가 중단되어도 다음 실행 때 이어서 진행
+ */
+@Entity
+@Table(name = "ingest_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestCheckpoint {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "job_name", unique = true, nullable = false, length = 100)
+    private String jobName;     // 예: price-backfill:20230101-20251231
+    
+    @Column(name = "cursor_value", length = 100)
+    private String cursorValue; // 마지막으로 완료한 위치 (예: 기준일자 YYYYMMDD)
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public IngestCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+}
@@ -7,7 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "news")
+@Table(
+    name = "news",
+    uniqueConstraints = @UniqueConstraint(name = "uk_news_link_hash", columnNames = "link_hash")
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,6 +31,9 @@ public class News {
     @Column(length = 500)
     private String link;      // 뉴스 링크
     
+    @Column(name = "link_hash", length = 64)
+    private String linkHash;  // 정규화한 링크의 SHA-256 (중복 체크용, NewsLinkIndex.hash)
+    
     @Column(length = 100)
     private String source;    // 뉴스 출처 (예: 연합뉴스, 조선일보)
     
@@ -37,6 +43,9 @@ public class News {
     @Column
     private Double sentimentScore;  // 감성 점수 (0.0 ~ 1.0)
     
+    @Column(updatable = false)
+    private java.time.LocalDateTime createdAt = java.time.LocalDateTime.now();
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "stock_master_id")
     @JsonIgnore
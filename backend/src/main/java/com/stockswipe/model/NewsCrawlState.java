@@ -0,0 +1,54 @@
+package com.stockswipe.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 종목별 뉴스 RSS 증분 크롤링 상태
+ * - etag / lastModified: 다음 요청의 If-None-Match / If-Modified-Since (304면 본문을 받지 않음)
+ * - lastPubDate: 지금까지 처리한 기사 중 가장 최근 pubDate (이보다 오래된 기사는 건너뜀)
+ */
+@Entity
+@Table(name = "news_crawl_states")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsCrawlState {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "stock_id", unique = true, nullable = false, length = 20)
+    private String stockId;
+    
+    @Column(length = 200)
+    private String etag;
+    
+    @Column(name = "last_modified", length = 100)
+    private String lastModified;   // 서버가 보낸 Last-Modified 값 그대로
+    
+    @Column(name = "last_pub_date")
+    private Instant lastPubDate;
+    
+    @Column(name = "last_guid", length = 500)
+    private String lastGuid;       // lastPubDate 기사의 guid
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public NewsCrawlState(String stockId) {
+        this.stockId = stockId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.stockswipe.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 감성 분석 결과 캐시 (DB 계층)
+ * - cacheKey: 정규화한 종목명 + 뉴스 제목의 SHA-256 (NewsSentimentCache.key)
+ * - modelVersion이 현재 모델/프롬프트 버전과 다르면 캐시 미스로 보고 다시 분석한 결과로 덮어씀
+ */
+@Entity
+@Table(name = "news_sentiment_cache")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsSentimentCacheEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "cache_key", unique = true, nullable = false, length = 64)
+    private String cacheKey;
+    
+    @Column(nullable = false, length = 20)
+    private String sentiment;      // POSITIVE, NEGATIVE, NEUTRAL
+    
+    @Column(nullable = false)
+    private Double score;
+    
+    @Column(name = "model_version", nullable = false, length = 50)
+    private String modelVersion;   // 예: gpt-3.5-turbo/v1
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public NewsSentimentCacheEntry(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+}
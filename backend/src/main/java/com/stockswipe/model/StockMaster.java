@@ -16,7 +16,7 @@ import java.util.Set;
  * - OpenAI 생성 정보 (기업 개요, 사업 내용, 키워드)
  */
 @Entity
-@Table(name = "stock_master")
+@Table(name = "stock_master", indexes = @Index(name = "idx_stock_master_category", columnList = "category_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,12 +43,24 @@ public class StockMaster {
     @Column(length = 1000)
     private String business;        // 사업 내용
     
+    @Column(length = 64)
+    private String aiInputHash;     // 생성에 사용한 입력의 해시 (입력이 바뀐 종목만 재생성)
+    
+    // ===== AI 전문가 분석 (뉴스 감성 기반) =====
+    @Column(length = 10)
+    private String analystRating;   // BUY, HOLD
+    
+    @Column(length = 500)
+    private String analystReason;   // 분석 근거
+    
     // ===== 키워드 =====
     @ElementCollection
     @CollectionTable(name = "stock_keywords", joinColumns = @JoinColumn(name = "stock_id"))
     @Column(name = "keyword", length = 50)
     private List<String> keywords = new ArrayList<>();
     
+    private java.time.LocalDateTime updatedAt;  // 종목 정보(OpenAI 생성 데이터 등) 수정 시각
+    
     // ===== 관계 데이터 =====
     @OneToMany(mappedBy = "stockMaster", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ChartData> chartData = new HashSet<>();
@@ -60,6 +72,12 @@ public class StockMaster {
     private List<StockPrice> prices = new ArrayList<>();
     
     // ===== 편의 메서드 =====
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = java.time.LocalDateTime.now();
+    }
+    
     public StockMaster(String stockId, String name, Category category) {
         this.stockId = stockId;
         this.name = name;
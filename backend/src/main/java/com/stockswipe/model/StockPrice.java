@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
     name = "stock_prices",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"stock_master_id", "bas_dt"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"stock_master_id", "bas_dt"}),
+    indexes = @Index(name = "idx_stock_prices_bas_dt", columnList = "bas_dt")
 )
 @Data
 @NoArgsConstructor
@@ -0,0 +1,24 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.ChartData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChartDataRepository extends JpaRepository<ChartData, Long> {
+    
+    /**
+     * 모든 종목의 차트 데이터 (일괄 조회용)
+     */
+    List<ChartData> findAllByOrderByIdAsc();
+    
+    /**
+     * 여러 종목의 차트 데이터를 한 번에 조회
+     */
+    @Query("SELECT cd FROM ChartData cd WHERE cd.stockMaster.id IN :stockMasterIds ORDER BY cd.id")
+    List<ChartData> findByStockMasterIds(Collection<Long> stockMasterIds);
+}
@@ -0,0 +1,12 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.IngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IngestCheckpointRepository extends JpaRepository<IngestCheckpoint, Long> {
+    Optional<IngestCheckpoint> findByJobName(String jobName);
+}
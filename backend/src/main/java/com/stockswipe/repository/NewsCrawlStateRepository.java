@@ -0,0 +1,12 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.NewsCrawlState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NewsCrawlStateRepository extends JpaRepository<NewsCrawlState, Long> {
+    Optional<NewsCrawlState> findByStockId(String stockId);
+}
@@ -3,9 +3,12 @@ package com.stockswipe.repository;
 import com.stockswipe.model.News;
 import com.stockswipe.model.StockMaster;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long> {
@@ -15,4 +18,32 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     List<News> findByStockMasterOrderByIdDesc(StockMaster stockMaster);
     
     void deleteByStockMaster(StockMaster stockMaster);
+    
+    /**
+     * 모든 종목의 뉴스 (일괄 조회용)
+     */
+    List<News> findAllByOrderByIdAsc();
+    
+    /**
+     * 여러 종목의 뉴스를 한 번에 조회
+     */
+    @Query("SELECT n FROM News n WHERE n.stockMaster.id IN :stockMasterIds ORDER BY n.id")
+    List<News> findByStockMasterIds(Collection<Long> stockMasterIds);
+    
+    /**
+     * 주어진 링크 해시 중 이미 저장된 것 (중복 체크용, uk_news_link_hash 인덱스 사용)
+     */
+    @Query("SELECT n.linkHash FROM News n WHERE n.linkHash IN :linkHashes")
+    List<String> findExistingLinkHashes(Collection<String> linkHashes);
+    
+    /**
+     * 전체 링크 해시 (블룸 필터 재구성용, 트랜잭션 안에서 사용)
+     */
+    @Query("SELECT n.linkHash FROM News n WHERE n.linkHash IS NOT NULL")
+    Stream<String> streamAllLinkHashes();
+    
+    /**
+     * linkHash 컬럼 추가 전에 저장된 뉴스
+     */
+    List<News> findByLinkHashIsNullAndLinkIsNotNull();
 }
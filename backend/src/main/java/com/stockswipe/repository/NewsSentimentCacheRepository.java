@@ -0,0 +1,14 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.NewsSentimentCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NewsSentimentCacheRepository extends JpaRepository<NewsSentimentCacheEntry, Long>,
+        NewsSentimentCacheRepositoryCustom {
+    List<NewsSentimentCacheEntry> findByCacheKeyIn(Collection<String> cacheKeys);
+}
@@ -0,0 +1,17 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.NewsSentimentCacheEntry;
+
+import java.util.Collection;
+
+/**
+ * 감성 분석 캐시 일괄 저장 (Spring Data 메서드로 표현할 수 없는 부분)
+ */
+public interface NewsSentimentCacheRepositoryCustom {
+
+    /**
+     * cache_key 기준 INSERT ... ON CONFLICT DO UPDATE를 배치로 실행
+     * - 다른 스레드가 같은 키를 먼저 저장했어도 실패하지 않고 덮어씀
+     */
+    void upsertAll(Collection<NewsSentimentCacheEntry> entries);
+}
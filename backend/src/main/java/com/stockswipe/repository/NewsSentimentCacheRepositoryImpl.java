@@ -0,0 +1,42 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.NewsSentimentCacheEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * NewsSentimentCacheEntry 업서트 구현
+ * - saveAll은 같은 키를 동시에 저장하면 unique 위반으로 배치 전체가 실패하므로
+ *   PostgreSQL INSERT ... ON CONFLICT로 키마다 INSERT/UPDATE
+ */
+@RequiredArgsConstructor
+public class NewsSentimentCacheRepositoryImpl implements NewsSentimentCacheRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO news_sentiment_cache (cache_key, sentiment, score, model_version, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (cache_key) DO UPDATE SET sentiment = EXCLUDED.sentiment, score = EXCLUDED.score, " +
+            "model_version = EXCLUDED.model_version, updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void upsertAll(Collection<NewsSentimentCacheEntry> entries) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setString(1, entry.getCacheKey());
+            ps.setString(2, entry.getSentiment());
+            ps.setDouble(3, entry.getScore());
+            ps.setString(4, entry.getModelVersion());
+            ps.setTimestamp(5, now);
+        });
+    }
+}
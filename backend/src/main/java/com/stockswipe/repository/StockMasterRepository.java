@@ -3,8 +3,10 @@ package com.stockswipe.repository;
 import com.stockswipe.model.Category;
 import com.stockswipe.model.StockMaster;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +18,34 @@ public interface StockMasterRepository extends JpaRepository<StockMaster, Long>
     List<StockMaster> findByCategory(Category category);
     
     boolean existsByStockId(String stockId);
+    
+    /**
+     * 모든 종목 + 카테고리 (fetch join으로 카테고리 지연 로딩 제거)
+     */
+    @Query("SELECT sm FROM StockMaster sm JOIN FETCH sm.category ORDER BY sm.id")
+    List<StockMaster> findAllWithCategory();
+    
+    /**
+     * 종목코드 목록으로 종목 + 카테고리 조회
+     */
+    @Query("SELECT sm FROM StockMaster sm JOIN FETCH sm.category WHERE sm.stockId IN :stockIds ORDER BY sm.id")
+    List<StockMaster> findByStockIdsWithCategory(Collection<String> stockIds);
+    
+    /**
+     * 카테고리 코드 목록으로 종목 + 카테고리 조회 (category_id 인덱스 사용)
+     */
+    @Query("SELECT sm FROM StockMaster sm JOIN FETCH sm.category c WHERE c.code IN :categoryCodes ORDER BY sm.id")
+    List<StockMaster> findByCategoryCodesWithCategory(Collection<String> categoryCodes);
+    
+    /**
+     * 모든 종목의 키워드 [stockMasterId, keyword]
+     */
+    @Query("SELECT sm.id, k FROM StockMaster sm JOIN sm.keywords k")
+    List<Object[]> findAllKeywords();
+    
+    /**
+     * 여러 종목의 키워드 [stockMasterId, keyword]
+     */
+    @Query("SELECT sm.id, k FROM StockMaster sm JOIN sm.keywords k WHERE sm.id IN :ids")
+    List<Object[]> findKeywordsByIds(Collection<Long> ids);
 }
@@ -6,11 +6,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StockPriceRepository extends JpaRepository<StockPrice, Long> {
+public interface StockPriceRepository extends JpaRepository<StockPrice, Long>, StockPriceRepositoryCustom {
     
     /**
      * 특정 종목의 특정 날짜 주가 조회
@@ -34,4 +35,11 @@ public interface StockPriceRepository extends JpaRepository<StockPrice, Long> {
     @Query("SELECT sp FROM StockPrice sp WHERE sp.basDt = " +
            "(SELECT MAX(sp2.basDt) FROM StockPrice sp2 WHERE sp2.stockMaster = sp.stockMaster)")
     List<StockPrice> findAllLatestPrices();
+    
+    /**
+     * 여러 종목의 최신 주가를 한 번에 조회
+     */
+    @Query("SELECT sp FROM StockPrice sp WHERE sp.stockMaster.id IN :stockMasterIds AND sp.basDt = " +
+           "(SELECT MAX(sp2.basDt) FROM StockPrice sp2 WHERE sp2.stockMaster = sp.stockMaster)")
+    List<StockPrice> findLatestByStockMasterIds(Collection<Long> stockMasterIds);
 }
@@ -0,0 +1,22 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.StockPrice;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * StockPrice 일괄 저장 (Spring Data 메서드로 표현할 수 없는 부분)
+ */
+public interface StockPriceRepositoryCustom {
+
+    /**
+     * (stock_master_id, bas_dt) 기준 INSERT or UPDATE를 다중 VALUES INSERT ... ON CONFLICT로 실행
+     * - 같은 종목의 같은 날짜: UPDATE
+     * - 같은 종목의 다른 날짜: INSERT
+     * - 저장된 값과 모두 같으면 아무것도 하지 않음
+     *
+     * @return 실제로 INSERT/UPDATE된 행의 stock_master_id
+     */
+    Set<Long> upsertAll(Collection<StockPrice> prices);
+}
@@ -0,0 +1,105 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.StockPrice;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * StockPrice 업서트 구현
+ * - IDENTITY 전략 때문에 Hibernate는 INSERT를 배치로 묶지 못하므로 JdbcTemplate로 직접 실행
+ * - PostgreSQL INSERT ... ON CONFLICT로 조회 없이 한 번에 INSERT/UPDATE
+ * - 값이 모두 같은 행은 UPDATE하지 않음 (updated_at 유지 → ETag/변경 로그/캐시가 바뀌지 않음)
+ * - BATCH_SIZE행씩 다중 VALUES INSERT 1개로 보내고, RETURNING으로 실제로 쓴 행만 받음
+ */
+@RequiredArgsConstructor
+public class StockPriceRepositoryImpl implements StockPriceRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO stock_prices (stock_master_id, bas_dt, isin_cd, mrkt_ctg, clpr, vs, flt_rt, mkp, hipr, lopr, " +
+            "trqu, tr_prc, lstg_st_cnt, mrkt_tot_amt, created_at, updated_at) VALUES ";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ON_CONFLICT_SQL =
+            " ON CONFLICT (stock_master_id, bas_dt) DO UPDATE SET " +
+            "isin_cd = EXCLUDED.isin_cd, mrkt_ctg = EXCLUDED.mrkt_ctg, clpr = EXCLUDED.clpr, vs = EXCLUDED.vs, " +
+            "flt_rt = EXCLUDED.flt_rt, mkp = EXCLUDED.mkp, hipr = EXCLUDED.hipr, lopr = EXCLUDED.lopr, " +
+            "trqu = EXCLUDED.trqu, tr_prc = EXCLUDED.tr_prc, lstg_st_cnt = EXCLUDED.lstg_st_cnt, " +
+            "mrkt_tot_amt = EXCLUDED.mrkt_tot_amt, updated_at = EXCLUDED.updated_at " +
+            "WHERE (stock_prices.isin_cd, stock_prices.mrkt_ctg, stock_prices.clpr, stock_prices.vs, " +
+            "stock_prices.flt_rt, stock_prices.mkp, stock_prices.hipr, stock_prices.lopr, stock_prices.trqu, " +
+            "stock_prices.tr_prc, stock_prices.lstg_st_cnt, stock_prices.mrkt_tot_amt) IS DISTINCT FROM " +
+            "(EXCLUDED.isin_cd, EXCLUDED.mrkt_ctg, EXCLUDED.clpr, EXCLUDED.vs, EXCLUDED.flt_rt, EXCLUDED.mkp, " +
+            "EXCLUDED.hipr, EXCLUDED.lopr, EXCLUDED.trqu, EXCLUDED.tr_prc, EXCLUDED.lstg_st_cnt, " +
+            "EXCLUDED.mrkt_tot_amt) " +
+            "RETURNING stock_master_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public Set<Long> upsertAll(Collection<StockPrice> prices) {
+        Set<Long> written = new HashSet<>();
+        List<StockPrice> rows = List.copyOf(prices);
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<StockPrice> batch = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            String sql = INSERT_SQL + String.join(", ", Collections.nCopies(batch.size(), VALUES_ROW)) + ON_CONFLICT_SQL;
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.query(sql, ps -> {
+                int index = 0;
+                for (StockPrice price : batch) {
+                    bind(ps, index, price, now);
+                    index += 16;
+                }
+            }, rs -> {
+                written.add(rs.getLong(1));
+            });
+        }
+        return written;
+    }
+
+    private static void bind(PreparedStatement ps, int offset, StockPrice price, Timestamp now) throws SQLException {
+        ps.setLong(offset + 1, price.getStockMaster().getId());
+        ps.setString(offset + 2, price.getBasDt());
+        ps.setString(offset + 3, price.getIsinCd());
+        ps.setString(offset + 4, price.getMrktCtg());
+        setLong(ps, offset + 5, price.getClpr());
+        setLong(ps, offset + 6, price.getVs());
+        if (price.getFltRt() != null) {
+            ps.setDouble(offset + 7, price.getFltRt());
+        } else {
+            ps.setNull(offset + 7, Types.DOUBLE);
+        }
+        setLong(ps, offset + 8, price.getMkp());
+        setLong(ps, offset + 9, price.getHipr());
+        setLong(ps, offset + 10, price.getLopr());
+        setLong(ps, offset + 11, price.getTrqu());
+        setLong(ps, offset + 12, price.getTrPrc());
+        setLong(ps, offset + 13, price.getLstgStCnt());
+        setLong(ps, offset + 14, price.getMrktTotAmt());
+        ps.setTimestamp(offset + 15, now);
+        ps.setTimestamp(offset + 16, now);
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.stockswipe.service;
+
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 해시(hex) 문자열용 블룸 필터
+ * - mightContain이 false면 확실히 없음, true면 있을 수도 있음 (DB 확인 필요)
+ * - 해시의 앞 16바이트를 두 개의 long으로 나눠 double hashing (h1 + i * h2)
+ * - 비트 배열은 AtomicLongArray라서 여러 스레드에서 동시에 put/mightContain 가능
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedItems 예상 원소 수
+     * @param falsePositiveRate 목표 오탐률 (예: 0.01)
+     */
+    public BloomFilter(long expectedItems, double falsePositiveRate) {
+        long n = Math.max(1, expectedItems);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void put(String sha256Hex) {
+        long h1 = HexFormat.fromHexDigitsToLong(sha256Hex, 0, 16);
+        long h2 = HexFormat.fromHexDigitsToLong(sha256Hex, 16, 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << (bit & 63);
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String sha256Hex) {
+        long h1 = HexFormat.fromHexDigitsToLong(sha256Hex, 0, 16);
+        long h2 = HexFormat.fromHexDigitsToLong(sha256Hex, 16, 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
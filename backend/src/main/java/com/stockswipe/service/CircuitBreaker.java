@@ -0,0 +1,120 @@
+package com.stockswipe.service;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 외부 의존성별 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 failureThreshold회가 되면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 바로 CircuitOpenException (빠른 실패)
+ * - HALF_OPEN: openDuration이 지나면 시험 호출 1건만 허용 → 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Consumer<State> onTransition;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Consumer<State> onTransition) {
+        if (failureThreshold <= 0 || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("잘못된 서킷 브레이커 설정: " + name);
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.onTransition = onTransition;
+    }
+
+    /**
+     * 호출 전 확인 - OPEN이거나 HALF_OPEN 시험 호출이 진행 중이면 CircuitOpenException
+     */
+    public void acquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                long remaining = openNanos - (System.nanoTime() - openedAtNanos);
+                if (remaining > 0) {
+                    throw new CircuitOpenException(name, Duration.ofNanos(remaining));
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) {
+                    throw new CircuitOpenException(name, Duration.ZERO);
+                }
+                trialInFlight = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            if (state != State.CLOSED) {
+                transitionTo(State.CLOSED);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                openedAtNanos = System.nanoTime();
+                transitionTo(State.OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 업스트림 상태와 무관한 실패 (잘못된 요청 등) - HALF_OPEN 시험 슬롯만 반납
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        onTransition.accept(next);
+    }
+}
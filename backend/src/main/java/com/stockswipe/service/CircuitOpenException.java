@@ -0,0 +1,22 @@
+package com.stockswipe.service;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커가 열려 있어서 외부 호출을 하지 않은 경우
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public CircuitOpenException(String name, Duration retryAfter) {
+        super(name + " 서킷 브레이커가 열려 있습니다 (" + retryAfter.toSeconds() + "초 후 재시도 가능)");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
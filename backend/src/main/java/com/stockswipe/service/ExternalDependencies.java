@@ -0,0 +1,82 @@
+package com.stockswipe.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 외부 의존성별 호출기 - data.go.kr 주식시세 API, 구글 뉴스 RSS, OpenAI
+ * - 호출 제한: ingest.rate-limit.{key}.permits-per-second / max-concurrency
+ * - 재시도/서킷 브레이커: ingest.resilience.{key}.*
+ * - 메트릭
+ *   - external.circuit.state (dependency, state): 현재 상태면 1, 아니면 0
+ *   - external.circuit.transitions (dependency, state): 상태 전환 횟수
+ *   - external.calls.retries / external.calls.rejected (dependency): 재시도 횟수 / 서킷이 열려서 거절된 호출 수
+ */
+@Slf4j
+@Component
+public class ExternalDependencies {
+
+    private final ExternalDependency stockApi;
+    private final ExternalDependency googleNews;
+    private final ExternalDependency openAi;
+
+    public ExternalDependencies(Environment env, MeterRegistry meterRegistry) {
+        this.stockApi = create(env, meterRegistry, "stock-api", "data.go.kr", 10, 4);
+        this.googleNews = create(env, meterRegistry, "google-news", "Google News", 5, 6);
+        this.openAi = create(env, meterRegistry, "openai", "OpenAI", 3, 4);
+    }
+
+    private static ExternalDependency create(Environment env, MeterRegistry meterRegistry,
+                                             String key, String name,
+                                             double defaultRate, int defaultConcurrency) {
+        String rateLimit = "ingest.rate-limit." + key + ".";
+        RateLimiter rateLimiter = new RateLimiter(name,
+                env.getProperty(rateLimit + "permits-per-second", Double.class, defaultRate),
+                env.getProperty(rateLimit + "max-concurrency", Integer.class, defaultConcurrency));
+
+        String resilience = "ingest.resilience." + key + ".";
+        RetryPolicy retryPolicy = new RetryPolicy(
+                env.getProperty(resilience + "max-attempts", Integer.class, 3),
+                env.getProperty(resilience + "base-delay", Duration.class, Duration.ofMillis(500)),
+                env.getProperty(resilience + "max-delay", Duration.class, Duration.ofSeconds(10)),
+                env.getProperty(resilience + "max-retry-after", Duration.class, Duration.ofSeconds(60)));
+
+        Tags tags = Tags.of("dependency", key);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(name,
+                env.getProperty(resilience + "failure-threshold", Integer.class, 5),
+                env.getProperty(resilience + "open-duration", Duration.class, Duration.ofSeconds(30)),
+                state -> {
+                    meterRegistry.counter("external.circuit.transitions", tags.and("state", state.name())).increment();
+                    if (state == CircuitBreaker.State.OPEN) {
+                        log.warn("🚫 {} 서킷 브레이커 OPEN - 잠시 동안 호출하지 않습니다.", name);
+                    } else {
+                        log.info("{} 서킷 브레이커 {}", name, state);
+                    }
+                });
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            meterRegistry.gauge("external.circuit.state", tags.and("state", state.name()), circuitBreaker,
+                    breaker -> breaker.getState() == state ? 1 : 0);
+        }
+
+        return new ExternalDependency(name, rateLimiter, circuitBreaker, retryPolicy,
+                meterRegistry.counter("external.calls.retries", tags),
+                meterRegistry.counter("external.calls.rejected", tags));
+    }
+
+    public ExternalDependency stockApi() {
+        return stockApi;
+    }
+
+    public ExternalDependency googleNews() {
+        return googleNews;
+    }
+
+    public ExternalDependency openAi() {
+        return openAi;
+    }
+}
@@ -0,0 +1,82 @@
+package com.stockswipe.service;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 의존성 호출기 (서킷 브레이커 → 호출 제한 → 재시도)
+ * - 서킷이 열려 있으면 호출 제한 대기 없이 바로 CircuitOpenException
+ * - 재시도 대기 중에는 호출 제한 슬롯을 잡지 않음
+ * - 재시도 중 서킷이 열리면 남은 재시도 없이 마지막 오류를 그대로 던짐
+ */
+@Slf4j
+public class ExternalDependency {
+
+    private final String name;
+    private final RateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryPolicy retryPolicy;
+    private final Counter retries;
+    private final Counter rejected;
+
+    public ExternalDependency(String name, RateLimiter rateLimiter, CircuitBreaker circuitBreaker,
+                              RetryPolicy retryPolicy, Counter retries, Counter rejected) {
+        this.name = name;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.retryPolicy = retryPolicy;
+        this.retries = retries;
+        this.rejected = rejected;
+    }
+
+    public <T, E extends Exception> T execute(RateLimiter.Call<T, E> call) throws E {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                circuitBreaker.acquirePermission();
+            } catch (CircuitOpenException e) {
+                rejected.increment();
+                throw e;
+            }
+            try {
+                T result = rateLimiter.execute(call);
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (Exception e) {
+                if (RetryPolicy.isTransient(e)) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onIgnored();
+                }
+                Optional<Duration> delay = retryPolicy.delayAfter(attempt, e);
+                if (delay.isEmpty() || circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                    throw e;
+                }
+                log.warn("{} 호출 실패 ({}/{}), {}ms 후 재시도: {}",
+                        name, attempt, retryPolicy.getMaxAttempts(), delay.get().toMillis(), e.getMessage());
+                retries.increment();
+                sleep(delay.get());
+            }
+        }
+    }
+
+    private void sleep(Duration delay) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(name + " 재시도 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+}
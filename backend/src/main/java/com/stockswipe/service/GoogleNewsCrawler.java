@@ -1,23 +1,39 @@
 package com.stockswipe.service;
 
+import com.stockswipe.dto.NewsFeedItem;
+import com.stockswipe.dto.NewsHeadline;
+import com.stockswipe.dto.NewsSentiment;
+import com.stockswipe.model.IngestCheckpoint;
 import com.stockswipe.model.News;
+import com.stockswipe.model.NewsCrawlState;
 import com.stockswipe.model.StockMaster;
+import com.stockswipe.repository.IngestCheckpointRepository;
+import com.stockswipe.repository.NewsCrawlStateRepository;
 import com.stockswipe.repository.NewsRepository;
 import com.stockswipe.repository.StockMasterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -31,14 +47,27 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class GoogleNewsCrawler {
     
-    // 구글 뉴스 RSS URL
-    private static final String GOOGLE_NEWS_RSS = "https://news.google.com/rss/search?q=";
+    // 구글 뉴스 RSS 검색 파라미터 (한국어/한국)
     private static final String RSS_PARAMS = "&hl=ko&gl=KR&ceid=KR:ko";
-    private static final int MAX_RETRIES = 3;
+    private static final String CRAWL_ALL_JOB_PREFIX = "news-crawl-all:";
     
     private final StockMasterRepository stockMasterRepository;
     private final NewsRepository newsRepository;
     private final OpenAiService openAiService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExternalDependencies externalDependencies;
+    private final OutboundHttpClient outboundHttpClient;
+    private final NewsLinkIndex newsLinkIndex;
+    private final IngestCheckpointRepository checkpointRepository;
+    private final NewsCrawlStateRepository crawlStateRepository;
+    private final GoogleNewsRssParser rssParser;
+    private final IngestExecutor ingestExecutor;
+    
+    @Value("${news.google.rss-url:https://news.google.com/rss/search}")
+    private String rssUrl;
+    
+    @Value("${ingest.news.chunk-size:20}")
+    private int chunkSize;
     
     /**
      * 특정 종목의 뉴스를 크롤링하여 DB에 저장
@@ -47,63 +76,70 @@ public class GoogleNewsCrawler {
      * @param count 가져올 뉴스 개수 (기본 10개)
      * @return 저장된 뉴스 개수
      */
-    @Transactional
     public int crawlAndSaveNews(String stockId, int count) {
         StockMaster stockMaster = stockMasterRepository.findByStockId(stockId)
                 .orElseThrow(() -> new RuntimeException("StockMaster not found: " + stockId));
         
-        // 종목명으로 구글 뉴스 크롤링
+        // 종목명으로 구글 뉴스 크롤링 (지난 크롤링 이후 새 기사만)
+        NewsCrawlState crawlState = crawlStateRepository.findByStockId(stockId)
+                .orElseGet(() -> new NewsCrawlState(stockId));
         String keyword = stockMaster.getName() + " 주식"; // 검색어에 "주식" 추가
-        List<NewsItem> newsItems = crawlGoogleNews(keyword, count);
+        FeedResult feed = crawlGoogleNews(keyword, count, crawlState);
+        if (feed.notModified()) {
+            log.debug("{} 뉴스 피드 변경 없음 (304)", stockMaster.getName());
+            return 0;
+        }
         
         // 기존 뉴스 삭제 (선택사항 - 필요시 주석 처리)
         // newsRepository.deleteByStockMaster(stockMaster);
         
-        int savedCount = 0;
-        for (NewsItem item : newsItems) {
-            // 중복 체크 (링크 기준)
-            boolean exists = newsRepository.findAll().stream()
-                    .anyMatch(n -> n.getLink() != null && n.getLink().equals(item.link));
+        // 중복 체크 (정규화한 링크 해시 기준) - 블룸 필터 + IN 쿼리 한 번
+        Map<String, NewsFeedItem> itemsByHash = new LinkedHashMap<>();
+        for (NewsFeedItem item : feed.items()) {
+            itemsByHash.putIfAbsent(NewsLinkIndex.hash(item.getLink()), item);
+        }
+        itemsByHash.keySet().removeAll(newsLinkIndex.findExisting(itemsByHash.keySet()));
+        
+        // RSS 조회와 감성 분석은 트랜잭션 밖에서 수행하고, 새 뉴스만 모아서 한 번에 저장
+        // 감성 분석은 새 뉴스 제목을 모아서 한 번에 요청 (OpenAiService가 토큰 한도에 맞춰 나눔)
+        List<NewsSentiment> sentiments = openAiService.analyzeNewsSentiments(itemsByHash.values().stream()
+                .map(item -> new NewsHeadline(stockMaster.getName(), item.getTitle()))
+                .toList());
+        
+        List<News> newNews = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<String, NewsFeedItem> entry : itemsByHash.entrySet()) {
+            NewsFeedItem item = entry.getValue();
+            NewsSentiment sentiment = sentiments.get(index++);
             
-            if (!exists) {
-                // OpenAI로 뉴스 감성 분석 (호재/악재 판단)
-                java.util.Map<String, Object> sentimentResult = openAiService.analyzeNewsSentiment(
-                        stockMaster.getName(), 
-                        item.title, 
-                        ""
-                );
-                String sentiment = (String) sentimentResult.get("sentiment");
-                Double sentimentScore = (Double) sentimentResult.get("score");
-                
-                log.info("📊 뉴스 감성 분석 - {}: {} ({})", 
-                        item.title.substring(0, Math.min(30, item.title.length())), 
-                        sentiment, 
-                        sentimentScore);
-                
-                News news = new News(
-                        UUID.randomUUID().toString(), // newsId
-                        item.title,
-                        "", // summary는 나중에 추가 가능
-                        item.link,
-                        item.source,
-                        sentiment,
-                        sentimentScore
-                );
-                news.setStockMaster(stockMaster);
-                newsRepository.save(news);
-                savedCount++;
-                
-                // OpenAI API 호출 제한 방지 (초당 3건)
-                try {
-                    Thread.sleep(350);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
+            log.info("📊 뉴스 감성 분석 - {}: {} ({})", 
+                    item.getTitle().substring(0, Math.min(30, item.getTitle().length())), 
+                    sentiment.getSentiment(), 
+                    sentiment.getScore());
+            
+            News news = new News(
+                    UUID.randomUUID().toString(), // newsId
+                    item.getTitle(),
+                    "", // summary는 나중에 추가 가능
+                    item.getLink(),
+                    item.getSource(),
+                    sentiment.getSentiment(),
+                    sentiment.getScore()
+            );
+            news.setLinkHash(entry.getKey());
+            news.setStockMaster(stockMaster);
+            newNews.add(news);
         }
         
+        int savedCount = saveNewNews(newNews);
+        updateCrawlState(crawlState, feed);
+        
         log.info("✅ {} 뉴스 크롤링 완료: {}개 저장", stockMaster.getName(), savedCount);
         
+        if (savedCount > 0) {
+            eventPublisher.publishEvent(StockDataChangedEvent.of(stockId));
+        }
+        
         // 뉴스 크롤링 완료 후 AI 전문가 분석 생성
         if (savedCount > 0) {
             try {
@@ -116,126 +152,197 @@ public class GoogleNewsCrawler {
         return savedCount;
     }
     
+    /**
+     * 새 뉴스 일괄 저장
+     * - 다른 종목 크롤링이 같은 기사를 먼저 저장해서 unique 제약에 걸리면, 이미 저장된 링크를 빼고 다시 저장
+     *
+     * @return 저장된 뉴스 개수
+     */
+    private int saveNewNews(List<News> newNews) {
+        if (newNews.isEmpty()) {
+            return 0;
+        }
+        List<News> toSave = newNews;
+        try {
+            newsRepository.saveAll(toSave);
+        } catch (DataIntegrityViolationException e) {
+            Set<String> existing = newsLinkIndex.findExisting(newNews.stream().map(News::getLinkHash).toList());
+            toSave = newNews.stream().filter(news -> !existing.contains(news.getLinkHash())).toList();
+            log.debug("동시에 저장된 뉴스 {}건 제외 후 다시 저장", newNews.size() - toSave.size());
+            toSave.forEach(news -> news.setId(null));
+            newsRepository.saveAll(toSave);
+        }
+        newsLinkIndex.addAll(toSave.stream().map(News::getLinkHash).toList());
+        return toSave.size();
+    }
+    
     /**
      * 모든 종목의 뉴스를 크롤링
+     * - 종목별로 가상 스레드에서 실행 (구글/OpenAI 호출 속도는 각 RateLimiter가 조절)
+     * - 종목마다 따로 커밋 (전체를 감싸는 트랜잭션 없음 → 영속성 컨텍스트/DB 연결을 오래 잡지 않음)
+     * - stockId 순으로 chunkSize개씩 실행하고, 청크가 끝날 때마다 체크포인트 저장
+     *   → 같은 날 중단된 실행을 다시 시작하면 끝난 종목은 건너뜀 (정상 종료하면 체크포인트 삭제)
      * 
      * @param count 종목당 가져올 뉴스 개수
      */
-    @Transactional
-    public void crawlAllStocksNews(int count) {
-        List<StockMaster> stockMasters = stockMasterRepository.findAll();
-        log.info("📰 총 {}개 종목의 뉴스를 크롤링합니다...", stockMasters.size());
+    public IngestRun crawlAllStocksNews(int count) {
+        String jobName = CRAWL_ALL_JOB_PREFIX + LocalDate.now().format(TradingCalendar.BAS_DT_FORMAT);
+        IngestCheckpoint checkpoint = checkpointRepository.findByJobName(jobName)
+                .orElseGet(() -> new IngestCheckpoint(jobName));
+        String cursor = checkpoint.getCursorValue();
         
-        int successCount = 0;
-        int failCount = 0;
+        List<StockMaster> stockMasters = stockMasterRepository.findAll().stream()
+                .sorted(Comparator.comparing(StockMaster::getStockId))
+                .filter(stockMaster -> cursor == null || stockMaster.getStockId().compareTo(cursor) > 0)
+                .toList();
+        log.info("📰 총 {}개 종목의 뉴스를 크롤링합니다 (이어서 시작: {})...",
+                stockMasters.size(), cursor != null ? cursor : "처음부터");
         
-        for (int i = 0; i < stockMasters.size(); i++) {
-            StockMaster stockMaster = stockMasters.get(i);
-            try {
-                int saved = crawlAndSaveNews(stockMaster.getStockId(), count);
-                successCount++;
-                log.info("✅ [{}/{}] {} 뉴스 크롤링 완료 ({}개 저장)", 
-                        i + 1, stockMasters.size(), stockMaster.getName(), saved);
-                
-                // API 호출 제한 방지 (초당 2건)
-                Thread.sleep(500);
-                
-            } catch (Exception e) {
-                failCount++;
-                log.error("❌ [{}/{}] {} 뉴스 크롤링 실패: {}", 
-                        i + 1, stockMasters.size(), stockMaster.getName(), e.getMessage());
-            }
+        IngestRun run = ingestExecutor.runChunked("뉴스 크롤링", stockMasters, StockMaster::getName, chunkSize,
+                stockMaster -> crawlAndSaveNews(stockMaster.getStockId(), count) + "개 저장",
+                chunk -> {
+                    checkpoint.setCursorValue(chunk.get(chunk.size() - 1).getStockId());
+                    checkpointRepository.save(checkpoint);
+                });
+        if (!run.isCancelRequested() && checkpoint.getId() != null) {
+            checkpointRepository.delete(checkpoint);
         }
+        return run;
+    }
+    
+    /**
+     * 지정한 종목들의 뉴스를 크롤링 (카테고리별 분산 실행용)
+     */
+    public IngestRun crawlStocksNews(List<StockMaster> stockMasters, int count) {
+        log.info("📰 총 {}개 종목의 뉴스를 크롤링합니다...", stockMasters.size());
         
-        log.info("🎉 뉴스 크롤링 완료! 성공: {}, 실패: {}", successCount, failCount);
+        return ingestExecutor.runAll("뉴스 크롤링", stockMasters, StockMaster::getName,
+                stockMaster -> crawlAndSaveNews(stockMaster.getStockId(), count) + "개 저장");
+    }
+    
+    /**
+     * 저장까지 끝난 뒤 다음 크롤링 기준 갱신 (ETag/Last-Modified, 가장 최근 pubDate)
+     * - 피드를 끝까지 읽은 경우에만 갱신 (피드는 관련도순이라, count개에서 멈췄으면
+     *   읽지 않은 기사 중 기준보다 새 기사가 남아 있을 수 있음 → 기준과 ETag를 그대로 두면 다음번에 다시 읽음)
+     */
+    private void updateCrawlState(NewsCrawlState crawlState, FeedResult feed) {
+        if (!feed.complete()) {
+            crawlState.setEtag(null);
+            crawlState.setLastModified(null);
+            crawlStateRepository.save(crawlState);
+            return;
+        }
+        crawlState.setEtag(feed.etag());
+        crawlState.setLastModified(feed.lastModified());
+        for (NewsFeedItem item : feed.items()) {
+            if (item.getPubDate() != null
+                    && (crawlState.getLastPubDate() == null || item.getPubDate().isAfter(crawlState.getLastPubDate()))) {
+                crawlState.setLastPubDate(item.getPubDate());
+                crawlState.setLastGuid(item.getGuid());
+            }
+        }
+        crawlStateRepository.save(crawlState);
     }
     
     /**
      * 구글 뉴스 RSS 크롤링
+     * - 재시도(백오프)와 서킷 브레이커는 ExternalDependency에서 처리
+     * - 지난번 ETag/Last-Modified로 조건부 요청 → 304면 본문 없이 바로 반환
+     * - 응답 스트림을 StAX로 읽으면서 지난번 기준(lastPubDate) 이전 기사는 건너뛰고,
+     *   새 기사가 count개 모이면 나머지는 읽지 않음 (피드는 관련도순이라 pubDate 순서가 아님 → complete=false)
      * 
      * @param keyword 검색 키워드 (종목명)
      * @param count 가져올 뉴스 개수
-     * @return 뉴스 아이템 리스트
+     * @param crawlState 종목별 증분 크롤링 상태 (이 메서드에서는 변경하지 않음)
+     * @throws UncheckedIOException 재시도 후에도 RSS 조회에 실패한 경우
+     * @throws IllegalStateException 응답 RSS가 잘못된 경우 (재시도하지 않음)
      */
-    public List<NewsItem> crawlGoogleNews(String keyword, int count) {
-        List<NewsItem> results = new ArrayList<>();
+    public FeedResult crawlGoogleNews(String keyword, int count, NewsCrawlState crawlState) {
+        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        String url = rssUrl + "?q=" + encodedKeyword + RSS_PARAMS;
+        log.debug("구글 뉴스 RSS 크롤링 URL: {}", url);
         
-        for (int retry = 0; retry < MAX_RETRIES; retry++) {
-            try {
-                String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
-                String url = GOOGLE_NEWS_RSS + encodedKeyword + RSS_PARAMS;
-                log.debug("구글 뉴스 RSS 크롤링 URL: {}", url);
-                
-                Document doc = Jsoup.connect(url)
-                        .userAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                        .timeout(15000)
-                        .ignoreContentType(true) // RSS는 XML이므로 필수
-                        .get();
-                
-                // RSS 피드 파싱: <item><title>, <link>, <source>
-                Elements items = doc.select("item");
-                
-                for (Element item : items) {
-                    Element titleElem = item.selectFirst("title");
-                    Element linkElem = item.selectFirst("link");
-                    Element sourceElem = item.selectFirst("source");
-                    
-                    if (titleElem != null && linkElem != null) {
-                        String title = titleElem.text().trim();
-                        String link = linkElem.text().trim();
-                        String source = sourceElem != null ? sourceElem.text().trim() : "구글뉴스";
-                        
-                        if (!title.isEmpty() && !link.isEmpty()) {
-                            results.add(new NewsItem(title, link, source));
-                            if (results.size() >= count) break;
-                        }
+        Map<String, String> conditionalHeaders = new HashMap<>();
+        if (crawlState.getEtag() != null) {
+            conditionalHeaders.put("If-None-Match", crawlState.getEtag());
+        }
+        if (crawlState.getLastModified() != null) {
+            conditionalHeaders.put("If-Modified-Since", crawlState.getLastModified());
+        }
+        
+        FeedResult result;
+        try {
+            result = externalDependencies.googleNews().execute(() -> {
+                try (OutboundHttpClient.Response response = outboundHttpClient.get(
+                        OutboundHttpClient.Host.GOOGLE_NEWS, URI.create(url), conditionalHeaders)) {
+                    if (response.status() == OutboundHttpClient.NOT_MODIFIED) {
+                        return new FeedResult(true, true, List.of(), crawlState.getEtag(), crawlState.getLastModified());
                     }
-                }
-                
-                if (!results.isEmpty()) {
-                    log.info("✅ 구글 뉴스 {}개 크롤링 성공 (키워드: {})", results.size(), keyword);
-                    break; // 성공하면 재시도 중단
-                } else {
-                    log.warn("구글 뉴스 크롤링 결과 없음 (키워드: {}, 시도: {}/{})", 
-                            keyword, retry + 1, MAX_RETRIES);
-                }
-                
-            } catch (IOException e) {
-                log.warn("구글 뉴스 크롤링 실패 (키워드: {}, 시도: {}/{}): {}", 
-                        keyword, retry + 1, MAX_RETRIES, e.getMessage());
-                if (retry < MAX_RETRIES - 1) {
-                    try {
-                        Thread.sleep(1000); // 1초 대기 후 재시도
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
+                    List<NewsFeedItem> items = new ArrayList<>();
+                    boolean complete = rssParser.parse(response.body(), item -> {
+                        if (isNewItem(item, crawlState)) {
+                            if (item.getSource() == null) {
+                                item.setSource("구글뉴스");
+                            }
+                            items.add(item);
+                        }
+                        return items.size() < count;
+                    });
+                    return new FeedResult(false, complete, items,
+                            response.headers().firstValue("ETag").orElse(null),
+                            response.headers().firstValue("Last-Modified").orElse(null));
+                } catch (XMLStreamException e) {
+                    // 본문 읽기 오류만 재시도 - 잘못된 응답은 다시 받아도 같으므로 바로 실패 (서킷 실패로 세지 않음)
+                    IOException readFailure = RetryPolicy.findIOException(e);
+                    if (readFailure != null) {
+                        throw readFailure;
                     }
+                    throw new IllegalStateException("RSS 파싱 실패: " + e.getMessage(), e);
                 }
-            } catch (Exception e) {
-                log.error("뉴스 크롤링 중 예상치 못한 오류 (키워드: {}): {}", keyword, e.getMessage());
-                break;
-            }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("구글 뉴스 크롤링 실패 (키워드: " + keyword + "): " + e.getMessage(), e);
         }
         
-        return results;
+        if (result.notModified()) {
+            return result;
+        }
+        if (result.items().isEmpty()) {
+            log.info("구글 뉴스 새 기사 없음 (키워드: {})", keyword);
+        } else {
+            log.info("✅ 구글 뉴스 {}개 크롤링 성공 (키워드: {})", result.items().size(), keyword);
+        }
+        return result;
     }
     
     /**
-     * 뉴스 아이템 내부 클래스
+     * 제목/링크가 있고, 지난 크롤링의 가장 최근 기사보다 오래되지 않은 기사인지
+     * - pubDate가 없는 기사는 링크 중복 체크에 맡김
      */
-    public static class NewsItem {
-        String title;
-        String link;
-        String source;
-        
-        NewsItem(String title, String link, String source) {
-            this.title = title;
-            this.link = link;
-            this.source = source;
+    private boolean isNewItem(NewsFeedItem item, NewsCrawlState crawlState) {
+        if (item.getTitle() == null || item.getLink() == null) {
+            return false;
         }
-        
-        @Override
-        public String toString() {
-            return "제목: " + title + "\n링크: " + link + "\n출처: " + source + "\n";
+        Instant lastPubDate = crawlState.getLastPubDate();
+        if (lastPubDate == null || item.getPubDate() == null) {
+            return true;
+        }
+        if (item.getPubDate().equals(lastPubDate)) {
+            return !Objects.equals(item.getGuid(), crawlState.getLastGuid());
         }
+        return item.getPubDate().isAfter(lastPubDate);
+    }
+    
+    /**
+     * RSS 조회 결과
+     * 
+     * @param notModified 304 응답 (items는 비어 있음)
+     * @param complete 피드를 끝까지 읽었는지 (count개에서 멈췄으면 false)
+     * @param items 새 기사 (최대 count개)
+     * @param etag 응답의 ETag (다음 요청의 If-None-Match)
+     * @param lastModified 응답의 Last-Modified (다음 요청의 If-Modified-Since)
+     */
+    public record FeedResult(boolean notModified, boolean complete, List<NewsFeedItem> items,
+                             String etag, String lastModified) {
     }
 }
@@ -0,0 +1,94 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.NewsFeedItem;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Predicate;
+
+/**
+ * 구글 뉴스 RSS 스트리밍 파서 (StAX)
+ * - HTTP 응답 스트림을 그대로 읽음 (DOM 생성 없음)
+ * - <item>을 하나 읽을 때마다 sink 호출, sink가 false를 반환하면 나머지는 읽지 않음
+ */
+@Component
+public class GoogleNewsRssParser {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createFactory();
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 차단 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * @return 피드 끝까지 읽었으면 true, sink가 false를 반환해서 중간에 멈췄으면 false
+     */
+    public boolean parse(InputStream in, Predicate<NewsFeedItem> sink) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            NewsFeedItem item = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("item".equals(name)) {
+                        item = new NewsFeedItem();
+                    } else if (item != null) {
+                        readField(reader, name, item);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT
+                        && item != null && "item".equals(reader.getLocalName())) {
+                    if (!sink.test(item)) {
+                        return false;
+                    }
+                    item = null;
+                }
+            }
+            return true;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void readField(XMLStreamReader reader, String name, NewsFeedItem item) throws XMLStreamException {
+        switch (name) {
+            case "title" -> item.setTitle(readText(reader));
+            case "link" -> item.setLink(readText(reader));
+            case "source" -> item.setSource(readText(reader));
+            case "guid" -> item.setGuid(readText(reader));
+            case "pubDate" -> item.setPubDate(parsePubDate(readText(reader)));
+            default -> {
+                // description 등은 사용하지 않음
+            }
+        }
+    }
+
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = reader.getElementText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static Instant parsePubDate(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(text, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
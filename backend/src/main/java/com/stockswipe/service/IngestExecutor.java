@@ -0,0 +1,121 @@
+package com.stockswipe.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 가상 스레드 기반 수집 실행기
+ * - 대상마다 가상 스레드 1개를 띄우고, 실제 호출 속도는 각 서비스의 RateLimiter가 조절
+ * - 모든 작업이 끝날 때까지 기다린 뒤 IngestRun(성공/실패 건수) 반환
+ */
+@Component
+public class IngestExecutor {
+
+    @FunctionalInterface
+    public interface Task<T> {
+        /**
+         * @return 로그에 남길 한 줄 결과 (없으면 null)
+         */
+        String run(T item) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface MapTask<T, R> {
+        R apply(T item) throws Exception;
+    }
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public <T> IngestRun runAll(String name, List<T> items, Function<T, String> label, Task<T> task) {
+        return runChunked(name, items, label, Math.max(1, items.size()), task, chunk -> {
+        });
+    }
+
+    /**
+     * 대상을 chunkSize개씩 나눠 실행
+     * - 한 청크의 작업이 모두 끝나야 다음 청크를 시작
+     * - 청크가 끝날 때마다 onChunkDone 호출 (체크포인트 저장용, 취소된 청크는 호출하지 않음)
+     */
+    public <T> IngestRun runChunked(String name, List<T> items, Function<T, String> label, int chunkSize,
+                                    Task<T> task, Consumer<List<T>> onChunkDone) {
+        IngestRun run = new IngestRun(name, items.size());
+        for (int from = 0; from < items.size() && !run.isCancelRequested(); from += chunkSize) {
+            List<T> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            runChunk(name, run, chunk, label, task);
+            if (!run.isCancelRequested()) {
+                onChunkDone.accept(chunk);
+            }
+        }
+        run.finish();
+        return run;
+    }
+
+    private <T> void runChunk(String name, IngestRun run, List<T> items, Function<T, String> label, Task<T> task) {
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> {
+                if (run.isCancelRequested()) {
+                    return; // 작업 취소 - 남은 대상은 실행하지 않음
+                }
+                try {
+                    run.succeeded(label.apply(item), task.run(item));
+                } catch (Exception e) {
+                    if (run.isCancelRequested()) {
+                        return; // 취소로 중단된 작업은 실패로 세지 않음
+                    }
+                    run.failed(label.apply(item), e);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new RuntimeException(name + " 실행이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                // 작업 안에서 예외를 모두 처리하므로 발생하지 않음
+            }
+        }
+    }
+
+    /**
+     * 여러 작업을 병렬로 실행하고 결과를 입력 순서대로 반환 (하나라도 실패하면 예외)
+     */
+    public <T, R> List<R> map(List<T> items, MapTask<T, R> task) {
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> task.apply(item)));
+        }
+        List<R> results = new ArrayList<>(items.size());
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new RuntimeException("병렬 작업이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
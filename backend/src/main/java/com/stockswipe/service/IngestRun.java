@@ -0,0 +1,87 @@
+package com.stockswipe.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수집 작업 1회 실행의 진행 상황 (성공/실패 건수)
+ * - 여러 가상 스레드에서 동시에 갱신됨
+ * - 비동기 작업(Job) 안에서 생성되면 진행률을 Job에도 보고
+ */
+@Slf4j
+public class IngestRun {
+
+    private final String name;
+    private final int total;
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicInteger failCount = new AtomicInteger();
+    private final Job job;
+
+    public IngestRun(String name, int total) {
+        this.name = name;
+        this.total = total;
+        this.job = JobService.currentJob().orElse(null);
+        if (job != null) {
+            job.addTotal(total);
+        }
+    }
+
+    boolean isCancelRequested() {
+        return job != null && job.isCancelRequested();
+    }
+
+    void succeeded(String label, String detail) {
+        successCount.incrementAndGet();
+        int done = completed.incrementAndGet();
+        if (job != null) {
+            job.recordSuccess();
+        }
+        if (detail != null) {
+            log.info("✅ [{}/{}] {} {} 완료 ({})", done, total, label, name, detail);
+        } else {
+            log.info("✅ [{}/{}] {} {} 완료", done, total, label, name);
+        }
+    }
+
+    void failed(String label, Throwable e) {
+        failCount.incrementAndGet();
+        int done = completed.incrementAndGet();
+        if (job != null) {
+            job.recordFailure();
+        }
+        log.error("❌ [{}/{}] {} {} 실패: {}", done, total, label, name, e.getMessage());
+    }
+
+    void finish() {
+        if (isCancelRequested()) {
+            log.info("🛑 {} 취소됨! 성공: {}, 실패: {}, 미실행: {} ({}ms)", name, successCount.get(), failCount.get(),
+                    total - completed.get(), System.currentTimeMillis() - startedAt);
+            return;
+        }
+        log.info("🎉 {} 완료! 성공: {}, 실패: {} ({}ms)",
+                name, successCount.get(), failCount.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getSuccessCount() {
+        return successCount.get();
+    }
+
+    public int getFailCount() {
+        return failCount.get();
+    }
+}
@@ -0,0 +1,122 @@
+package com.stockswipe.service;
+
+import com.stockswipe.model.Category;
+import com.stockswipe.model.StockMaster;
+import com.stockswipe.repository.CategoryRepository;
+import com.stockswipe.repository.StockMasterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정기 수집 스케줄러
+ * - 주가: 공공데이터 포털이 직전 거래일 시세를 공개한 뒤 일괄 수집
+ * - 뉴스: 카테고리별로 시작 시각을 나눠서 크롤링 (구글/OpenAI 호출이 한꺼번에 몰리지 않도록)
+ * - AI 정보: 아직 생성하지 않았거나 입력(종목명, 프롬프트 버전)이 바뀐 종목만 생성
+ *   (바뀐 종목이 없으면 해시 비교만 하고 OpenAI는 호출하지 않음 → 새로 추가된 종목을 놓치지 않도록 매일 실행)
+ * - 휴장일에는 실행하지 않음, 수동 실행(POST)과 같은 작업 종류로 제출되므로 중복 실행 없음
+ */
+@Slf4j
+@Component
+public class IngestScheduler {
+
+    private final JobService jobService;
+    private final StockApiService stockApiService;
+    private final GoogleNewsCrawler googleNewsCrawler;
+    private final OpenAiService openAiService;
+    private final TradingCalendar tradingCalendar;
+    private final CategoryRepository categoryRepository;
+    private final StockMasterRepository stockMasterRepository;
+    private final ZoneId zone;
+    private final int newsCountPerStock;
+    private final Duration newsCategoryStagger;
+
+    public IngestScheduler(JobService jobService,
+                           StockApiService stockApiService,
+                           GoogleNewsCrawler googleNewsCrawler,
+                           OpenAiService openAiService,
+                           TradingCalendar tradingCalendar,
+                           CategoryRepository categoryRepository,
+                           StockMasterRepository stockMasterRepository,
+                           @Value("${ingest.schedule.zone:Asia/Seoul}") String zone,
+                           @Value("${ingest.news.count-per-stock:10}") int newsCountPerStock,
+                           @Value("${ingest.news.category-stagger-minutes:5}") long newsCategoryStaggerMinutes) {
+        this.jobService = jobService;
+        this.stockApiService = stockApiService;
+        this.googleNewsCrawler = googleNewsCrawler;
+        this.openAiService = openAiService;
+        this.tradingCalendar = tradingCalendar;
+        this.categoryRepository = categoryRepository;
+        this.stockMasterRepository = stockMasterRepository;
+        this.zone = ZoneId.of(zone);
+        this.newsCountPerStock = newsCountPerStock;
+        this.newsCategoryStagger = Duration.ofMinutes(newsCategoryStaggerMinutes);
+    }
+
+    @Scheduled(cron = "${ingest.schedule.price:0 0 14 * * MON-FRI}", zone = "${ingest.schedule.zone:Asia/Seoul}")
+    public void schedulePriceIngest() {
+        if (skipNonTradingDay("주가 수집")) {
+            return;
+        }
+        jobService.submit("price-update", () -> Map.of("updatedCount", stockApiService.updateAllStocks()));
+    }
+
+    @Scheduled(cron = "${ingest.schedule.news:0 0 8,12,16 * * MON-FRI}", zone = "${ingest.schedule.zone:Asia/Seoul}")
+    public void scheduleNewsCrawl() {
+        if (skipNonTradingDay("뉴스 크롤링")) {
+            return;
+        }
+        jobService.submit("news-crawl", this::crawlNewsByCategory);
+    }
+
+    @Scheduled(cron = "${ingest.schedule.ai-info:0 0 6 * * MON-FRI}", zone = "${ingest.schedule.zone:Asia/Seoul}")
+    public void scheduleAiInfo() {
+        if (skipNonTradingDay("AI 정보 생성")) {
+            return;
+        }
+        jobService.submit("ai-info", () -> {
+            IngestRun run = openAiService.generateChangedStocksInfo();
+            return Map.of("successCount", run.getSuccessCount(), "failCount", run.getFailCount());
+        });
+    }
+
+    /**
+     * 카테고리마다 newsCategoryStagger 간격으로 순서대로 크롤링
+     */
+    private Map<String, Object> crawlNewsByCategory() throws InterruptedException {
+        List<Category> categories = categoryRepository.findAll();
+        int successCount = 0;
+        int failCount = 0;
+        for (int i = 0; i < categories.size(); i++) {
+            if (i > 0) {
+                Thread.sleep(newsCategoryStagger.toMillis());
+            }
+            if (JobService.currentJob().map(Job::isCancelRequested).orElse(false)) {
+                break;
+            }
+            Category category = categories.get(i);
+            List<StockMaster> stockMasters = stockMasterRepository.findByCategoryCodesWithCategory(List.of(category.getCode()));
+            log.info("📰 [{}/{}] {} 카테고리 뉴스 크롤링 시작", i + 1, categories.size(), category.getName());
+            IngestRun run = googleNewsCrawler.crawlStocksNews(stockMasters, newsCountPerStock);
+            successCount += run.getSuccessCount();
+            failCount += run.getFailCount();
+        }
+        return Map.of("successCount", successCount, "failCount", failCount);
+    }
+
+    private boolean skipNonTradingDay(String name) {
+        LocalDate today = LocalDate.now(zone);
+        if (!tradingCalendar.isTradingDay(today)) {
+            log.info("⏭️ {} 휴장일이므로 {} 스케줄을 건너뜁니다.", today, name);
+            return true;
+        }
+        return false;
+    }
+}
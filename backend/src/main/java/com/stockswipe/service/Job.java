@@ -0,0 +1,136 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.JobDTO;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 작업 1건의 상태와 진행률
+ * - 작업 스레드와 조회 요청 스레드가 동시에 접근하므로 필드는 volatile/Atomic
+ */
+public class Job {
+
+    public enum Status {
+        RUNNING, SUCCEEDED, FAILED, CANCELLED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String type;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final long startedAtMillis = System.currentTimeMillis();
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger done = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile boolean cancelRequested;
+    private volatile LocalDateTime finishedAt;
+    private volatile long finishedAtMillis;
+    private volatile Object result;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    Job(String type) {
+        this.type = type;
+    }
+
+    // ===== 진행률 (작업 코드에서 호출) =====
+
+    public void addTotal(int count) {
+        total.addAndGet(count);
+    }
+
+    public void recordSuccess() {
+        done.incrementAndGet();
+    }
+
+    public void recordFailure() {
+        done.incrementAndGet();
+        failed.incrementAndGet();
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    // ===== 생명주기 (JobService에서 호출) =====
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+        Future<?> f = future;
+        if (f != null) {
+            f.cancel(true);
+        }
+    }
+
+    void succeed(Object result) {
+        this.result = result;
+        finish(cancelRequested ? Status.CANCELLED : Status.SUCCEEDED);
+    }
+
+    void fail(Throwable e) {
+        this.error = e.getMessage();
+        finish(cancelRequested ? Status.CANCELLED : Status.FAILED);
+    }
+
+    private void finish(Status status) {
+        this.finishedAtMillis = System.currentTimeMillis();
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * 현재 상태 스냅샷 (처리량/남은 시간 계산 포함)
+     */
+    public JobDTO toDTO() {
+        int totalCount = total.get();
+        int doneCount = done.get();
+        long endMillis = isFinished() ? finishedAtMillis : System.currentTimeMillis();
+        double elapsedSeconds = Math.max(0.001, (endMillis - startedAtMillis) / 1000.0);
+        double throughput = doneCount / elapsedSeconds;
+
+        Long etaSeconds = null;
+        if (!isFinished() && throughput > 0 && totalCount >= doneCount) {
+            etaSeconds = Math.round((totalCount - doneCount) / throughput);
+        }
+
+        JobDTO dto = new JobDTO();
+        dto.setId(id);
+        dto.setType(type);
+        dto.setStatus(status.name());
+        dto.setTotal(totalCount);
+        dto.setDone(doneCount);
+        dto.setFailed(failed.get());
+        dto.setThroughputPerSecond(Math.round(throughput * 100) / 100.0);
+        dto.setEtaSeconds(etaSeconds);
+        dto.setCreatedAt(createdAt);
+        dto.setFinishedAt(finishedAt);
+        dto.setResult(result);
+        dto.setError(error);
+        return dto;
+    }
+}
@@ -0,0 +1,118 @@
+package com.stockswipe.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 비동기 작업 실행/조회
+ * - 오래 걸리는 수집 작업을 가상 스레드에서 실행하고 작업 ID를 바로 반환
+ * - 같은 종류의 작업이 실행 중이면 새로 시작하지 않고 실행 중인 작업을 반환
+ * - 작업 안에서는 currentJob()으로 진행률을 보고하고 취소 여부를 확인
+ */
+@Slf4j
+@Service
+public class JobService {
+
+    private static final int MAX_FINISHED_JOBS = 100;
+
+    private static final ThreadLocal<Job> CURRENT_JOB = new ThreadLocal<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Job> runningByType = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 스레드에서 실행 중인 작업 (작업 밖이면 empty)
+     */
+    public static Optional<Job> currentJob() {
+        return Optional.ofNullable(CURRENT_JOB.get());
+    }
+
+    /**
+     * 작업 제출 - 같은 type이 실행 중이면 그 작업을 그대로 반환
+     *
+     * @param body 작업 본문 (반환값은 완료 시 result로 노출)
+     */
+    public Job submit(String type, Callable<?> body) {
+        Job[] created = new Job[1];
+        Job job = runningByType.compute(type, (key, running) -> {
+            if (running != null && !running.isFinished()) {
+                return running;
+            }
+            created[0] = new Job(type);
+            return created[0];
+        });
+        if (created[0] == null) {
+            log.info("⏩ {} 작업이 이미 실행 중입니다 (jobId: {})", type, job.getId());
+            return job;
+        }
+
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        job.attach(executor.submit(() -> run(job, body)));
+        log.info("🚀 {} 작업 시작 (jobId: {})", type, job.getId());
+        return job;
+    }
+
+    public Optional<Job> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 작업 취소 요청 (진행 중인 단위 작업은 끝까지 실행될 수 있음)
+     */
+    public Optional<Job> cancel(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job != null && !job.isFinished()) {
+            job.requestCancel();
+            log.info("🛑 {} 작업 취소 요청 (jobId: {})", job.getType(), jobId);
+        }
+        return Optional.ofNullable(job);
+    }
+
+    private void run(Job job, Callable<?> body) {
+        CURRENT_JOB.set(job);
+        try {
+            job.succeed(body.call());
+            log.info("✅ {} 작업 종료: {} (jobId: {})", job.getType(), job.toDTO().getStatus(), job.getId());
+        } catch (Throwable e) {
+            job.fail(e);
+            log.error("❌ {} 작업 실패 (jobId: {}): {}", job.getType(), job.getId(), e.getMessage());
+        } finally {
+            CURRENT_JOB.remove();
+            runningByType.remove(job.getType(), job);
+        }
+    }
+
+    /**
+     * 끝난 작업은 최근 MAX_FINISHED_JOBS개까지만 보관
+     */
+    private void evictFinishedJobs() {
+        long finishedCount = jobs.values().stream().filter(Job::isFinished).count();
+        if (finishedCount < MAX_FINISHED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(Job::isFinished)
+                .sorted(Comparator.comparing(Job::getFinishedAt))
+                .limit(finishedCount - MAX_FINISHED_JOBS + 1)
+                .map(Job::getId)
+                .toList()
+                .forEach(jobs::remove);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(Job::requestCancel);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,180 @@
+package com.stockswipe.service;
+
+import com.stockswipe.model.News;
+import com.stockswipe.repository.NewsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 뉴스 링크 중복 체크 인덱스
+ * - 링크를 정규화(추적 파라미터/fragment 제거, 쿼리 정렬)한 뒤 SHA-256 → News.linkHash (unique)
+ * - 블룸 필터로 새 링크를 DB 조회 없이 걸러냄 (시작할 때 DB의 linkHash로 다시 만듦)
+ * - 필터에 있을 수도 있는 링크만 모아서 IN 쿼리 한 번으로 확인
+ */
+@Slf4j
+@Component
+public class NewsLinkIndex {
+
+    /**
+     * 같은 기사여도 붙는 값이 달라지는 추적용 쿼리 파라미터
+     */
+    private static final Set<String> TRACKING_PARAMS = Set.of("oc", "fbclid", "gclid", "ref");
+
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final NewsRepository newsRepository;
+    private final long expectedItems;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    public NewsLinkIndex(NewsRepository newsRepository,
+                         @Value("${news.dedup.bloom.expected-items:1000000}") long expectedItems,
+                         @Value("${news.dedup.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.newsRepository = newsRepository;
+        this.expectedItems = expectedItems;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 시작 시 블룸 필터 재구성
+     * - linkHash가 없는 기존 뉴스는 여기서 채움 (같은 링크가 이미 있으면 비워 둠)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        int backfilled = backfillMissingHashes();
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedItems, newsRepository.count() * 2), falsePositiveRate);
+        AtomicLong count = new AtomicLong();
+        try (Stream<String> hashes = newsRepository.streamAllLinkHashes()) {
+            hashes.forEach(hash -> {
+                rebuilt.put(hash);
+                count.incrementAndGet();
+            });
+        }
+        filter = rebuilt;
+        log.info("🔎 뉴스 링크 인덱스 구성 완료: {}건 ({}건 해시 생성, {}ms)",
+                count.get(), backfilled, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private int backfillMissingHashes() {
+        List<News> missing = newsRepository.findByLinkHashIsNullAndLinkIsNotNull();
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        List<String> missingHashes = missing.stream().map(news -> hash(news.getLink())).distinct().toList();
+        Set<String> taken = new HashSet<>();
+        for (int from = 0; from < missingHashes.size(); from += LOOKUP_BATCH_SIZE) {
+            taken.addAll(newsRepository.findExistingLinkHashes(
+                    missingHashes.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, missingHashes.size()))));
+        }
+        int filled = 0;
+        for (News news : missing) {
+            String hash = hash(news.getLink());
+            if (taken.add(hash)) {
+                news.setLinkHash(hash);
+                filled++;
+            }
+        }
+        if (filled < missing.size()) {
+            log.warn("⚠️ 링크가 중복된 기존 뉴스 {}건은 linkHash 없이 둡니다.", missing.size() - filled);
+        }
+        newsRepository.flush();
+        return filled;
+    }
+
+    /**
+     * 이미 저장된 링크 해시만 반환
+     * - 블룸 필터에 없는 해시는 DB를 조회하지 않음 (필터 구성 전에는 모두 DB에서 확인)
+     */
+    public Set<String> findExisting(Collection<String> linkHashes) {
+        BloomFilter current = filter;
+        List<String> maybeExisting = current == null
+                ? List.copyOf(linkHashes)
+                : linkHashes.stream().filter(current::mightContain).toList();
+        if (maybeExisting.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(newsRepository.findExistingLinkHashes(maybeExisting));
+    }
+
+    /**
+     * 저장한 뉴스의 링크 해시를 필터에 추가
+     */
+    public void addAll(Collection<String> linkHashes) {
+        BloomFilter current = filter;
+        if (current != null) {
+            linkHashes.forEach(current::put);
+        }
+    }
+
+    /**
+     * 정규화한 링크의 SHA-256 (hex)
+     */
+    public static String hash(String link) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(normalize(link).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 링크 정규화 - scheme/host 소문자, 기본 포트/fragment/추적 파라미터 제거, 쿼리 정렬, 끝의 / 제거
+     */
+    static String normalize(String link) {
+        String trimmed = link.trim();
+        try {
+            URI uri = new URI(trimmed);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return trimmed;
+            }
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            StringBuilder normalized = new StringBuilder(scheme).append("://")
+                    .append(uri.getHost().toLowerCase(Locale.ROOT));
+            int port = uri.getPort();
+            if (port != -1 && !(port == 80 && scheme.equals("http")) && !(port == 443 && scheme.equals("https"))) {
+                normalized.append(':').append(port);
+            }
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            while (path.length() > 1 && path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            normalized.append(path.equals("/") ? "" : path);
+
+            if (uri.getRawQuery() != null) {
+                List<String> params = new ArrayList<>();
+                for (String param : uri.getRawQuery().split("&")) {
+                    String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+                    if (!param.isEmpty() && !name.startsWith("utm_") && !TRACKING_PARAMS.contains(name)) {
+                        params.add(param);
+                    }
+                }
+                if (!params.isEmpty()) {
+                    Collections.sort(params);
+                    normalized.append('?').append(String.join("&", params));
+                }
+            }
+            return normalized.toString();
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.NewsSentiment;
+import com.stockswipe.model.NewsSentimentCacheEntry;
+import com.stockswipe.repository.NewsSentimentCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 뉴스 감성 분석 결과 캐시
+ * - 키: 정규화한 종목명 + 뉴스 제목 (같은 기사가 여러 언론사/여러 번의 크롤링에 나와도 한 번만 분석)
+ * - 메모리 LRU → DB(news_sentiment_cache) 순으로 조회, DB에서 찾은 결과는 메모리에 올림
+ * - 모델/프롬프트 버전이 다른 결과는 사용하지 않음
+ * - 메트릭: news.sentiment.cache.lookups{result=memory|database|miss}, news.sentiment.cache.evictions,
+ *   news.sentiment.cache.saved.calls (캐시 덕분에 보내지 않은 OpenAI 요청 수), news.sentiment.cache.size
+ */
+@Component
+public class NewsSentimentCache {
+
+    private final NewsSentimentCacheRepository repository;
+    private final Map<String, NewsSentiment> memory;
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter savedCalls;
+
+    public NewsSentimentCache(NewsSentimentCacheRepository repository,
+                              MeterRegistry meterRegistry,
+                              @Value("${news.sentiment.cache.max-size:10000}") int maxSize) {
+        this.repository = repository;
+        this.memoryHits = meterRegistry.counter("news.sentiment.cache.lookups", "result", "memory");
+        this.databaseHits = meterRegistry.counter("news.sentiment.cache.lookups", "result", "database");
+        this.misses = meterRegistry.counter("news.sentiment.cache.lookups", "result", "miss");
+        this.evictions = meterRegistry.counter("news.sentiment.cache.evictions");
+        this.savedCalls = meterRegistry.counter("news.sentiment.cache.saved.calls");
+        // access-order LinkedHashMap = LRU (크롤링 스레드들이 함께 쓰므로 synchronized)
+        this.memory = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NewsSentiment> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        });
+        meterRegistry.gauge("news.sentiment.cache.size", memory, Map::size);
+    }
+
+    /**
+     * 캐시된 결과 조회
+     *
+     * @param keys NewsSentimentCache.key로 만든 키
+     * @param modelVersion 현재 모델/프롬프트 버전
+     * @return 찾은 키의 결과만 (없는 키는 포함하지 않음)
+     */
+    public Map<String, NewsSentiment> getAll(Collection<String> keys, String modelVersion) {
+        Map<String, NewsSentiment> found = new HashMap<>();
+        List<String> notInMemory = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            NewsSentiment sentiment = memory.get(memoryKey(key, modelVersion));
+            if (sentiment != null) {
+                found.put(key, sentiment);
+                memoryHits.increment();
+            } else {
+                notInMemory.add(key);
+            }
+        }
+        if (notInMemory.isEmpty()) {
+            return found;
+        }
+
+        for (NewsSentimentCacheEntry entry : repository.findByCacheKeyIn(notInMemory)) {
+            if (modelVersion.equals(entry.getModelVersion())) {
+                NewsSentiment sentiment = new NewsSentiment(entry.getSentiment(), entry.getScore());
+                found.put(entry.getCacheKey(), sentiment);
+                memory.put(memoryKey(entry.getCacheKey(), modelVersion), sentiment);
+                databaseHits.increment();
+            }
+        }
+        misses.increment(notInMemory.stream().filter(key -> !found.containsKey(key)).count());
+        return found;
+    }
+
+    /**
+     * 분석 결과 저장 (메모리 + DB)
+     * - DB는 cache_key 기준 업서트 (다른 스레드가 같은 키를 먼저 저장했거나 이전 모델 버전 결과가 있으면 덮어씀)
+     */
+    public void putAll(Map<String, NewsSentiment> sentiments, String modelVersion) {
+        if (sentiments.isEmpty()) {
+            return;
+        }
+        sentiments.forEach((key, sentiment) -> memory.put(memoryKey(key, modelVersion), sentiment));
+
+        List<NewsSentimentCacheEntry> entries = new ArrayList<>(sentiments.size());
+        sentiments.forEach((key, sentiment) -> {
+            NewsSentimentCacheEntry entry = new NewsSentimentCacheEntry(key);
+            entry.setSentiment(sentiment.getSentiment());
+            entry.setScore(sentiment.getScore());
+            entry.setModelVersion(modelVersion);
+            entries.add(entry);
+        });
+        repository.upsertAll(entries);
+    }
+
+    /**
+     * 캐시 덕분에 보내지 않은 OpenAI 요청 수 기록
+     */
+    public void recordSavedCalls(int calls) {
+        if (calls > 0) {
+            savedCalls.increment(calls);
+        }
+    }
+
+    /**
+     * 캐시 키 - 정규화한 종목명 + 제목의 SHA-256 (hex)
+     */
+    public static String key(String stockName, String title) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((normalize(stockName) + "\n" + normalizeTitle(title)).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 제목 정규화 - 구글 뉴스가 붙이는 " - 언론사" 꼬리를 떼고 normalize
+     */
+    static String normalizeTitle(String title) {
+        String trimmed = title.trim();
+        int sourceSeparator = trimmed.lastIndexOf(" - ");
+        if (sourceSeparator > 0 && trimmed.length() - sourceSeparator <= 30) {
+            trimmed = trimmed.substring(0, sourceSeparator);
+        }
+        return normalize(trimmed);
+    }
+
+    /**
+     * NFKC(전각/반각 통일) → 소문자 → 문자/숫자 외에는 공백 → 연속 공백 하나로
+     */
+    static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    private static String memoryKey(String key, String modelVersion) {
+        return modelVersion + "|" + key;
+    }
+}
@@ -1,44 +1,127 @@
 package com.stockswipe.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockswipe.dto.NewsHeadline;
+import com.stockswipe.dto.NewsSentiment;
 import com.stockswipe.model.StockMaster;
 import com.stockswipe.repository.StockMasterRepository;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
 import com.theokanning.openai.completion.chat.ChatMessage;
 import com.theokanning.openai.completion.chat.ChatMessageRole;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import retrofit2.Retrofit;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Slf4j
 @Service
 public class OpenAiService {
 
+    private static final int AI_PROMPT_VERSION = 1;
+    private static final String SENTIMENT_MODEL = "gpt-3.5-turbo";
+    private static final int SENTIMENT_PROMPT_VERSION = 1;
+    // 감성 분석 캐시에 함께 저장 - 모델이나 프롬프트를 바꾸면 이전 결과는 쓰지 않음
+    private static final String SENTIMENT_MODEL_VERSION = SENTIMENT_MODEL + "/v" + SENTIMENT_PROMPT_VERSION;
+    private static final int SENTIMENT_OUTPUT_TOKENS_PER_ITEM = 20;
+    private static final String SENTIMENT_PROMPT_HEADER =
+            "당신은 주식 뉴스 감성 분석 전문가입니다.\n\n" +
+            "아래 각 뉴스가 해당 종목에 미치는 영향을 분석하여 다음 중 하나로 분류해주세요:\n" +
+            "- POSITIVE: 호재 (주가 상승에 긍정적)\n" +
+            "- NEGATIVE: 악재 (주가 하락에 부정적)\n" +
+            "- NEUTRAL: 중립 (영향 미미하거나 불명확)\n" +
+            "점수는 0.0(매우 부정) ~ 1.0(매우 긍정) 범위로 제공해주세요.\n\n" +
+            "뉴스 목록 (번호. [종목명] 제목):\n";
+    private static final String SENTIMENT_PROMPT_FOOTER =
+            "\n" +
+            "다른 설명 없이 모든 번호에 대해 JSON 배열로만 응답해주세요.\n" +
+            "예시: [{\"id\":1,\"sentiment\":\"POSITIVE\",\"score\":0.85}]";
+    static final int SENTIMENT_PROMPT_OVERHEAD_TOKENS =
+            estimateTokens(SENTIMENT_PROMPT_HEADER) + estimateTokens(SENTIMENT_PROMPT_FOOTER);
+    private static final ObjectMapper SENTIMENT_MAPPER = new ObjectMapper();
+
     private final StockMasterRepository stockMasterRepository;
     private final com.theokanning.openai.service.OpenAiService openAiClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExternalDependencies externalDependencies;
+    private final IngestExecutor ingestExecutor;
+    private final NewsSentimentCache sentimentCache;
 
     @Value("${openai.api.key}")
     private String apiKey;
 
-    public OpenAiService(StockMasterRepository stockMasterRepository, @Value("${openai.api.key}") String apiKey) {
+    @Value("${openai.sentiment.batch.max-items:25}")
+    private int sentimentBatchMaxItems;
+
+    @Value("${openai.sentiment.batch.max-input-tokens:1500}")
+    private int sentimentBatchMaxInputTokens;
+
+    public OpenAiService(StockMasterRepository stockMasterRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         TransactionTemplate transactionTemplate,
+                         ExternalDependencies externalDependencies,
+                         IngestExecutor ingestExecutor,
+                         NewsSentimentCache sentimentCache,
+                         OutboundRecordingStore recordingStore,
+                         @Value("${openai.api.key}") String apiKey,
+                         @Value("${openai.api.base-url:https://api.openai.com/}") String baseUrl) {
         this.stockMasterRepository = stockMasterRepository;
-        if (apiKey != null && !apiKey.isEmpty() && !apiKey.equals("your-openai-api-key-here")) {
-            this.openAiClient = new com.theokanning.openai.service.OpenAiService(apiKey, Duration.ofSeconds(60));
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.externalDependencies = externalDependencies;
+        this.ingestExecutor = ingestExecutor;
+        this.sentimentCache = sentimentCache;
+        if (recordingStore.isReplay() || (apiKey != null && !apiKey.isEmpty() && !apiKey.equals("your-openai-api-key-here"))) {
+            this.openAiClient = createClient(apiKey, baseUrl, recordingStore);
         } else {
             this.openAiClient = null;
             log.warn("⚠️ OpenAI API 키가 설정되지 않았습니다. AI 기능이 비활성화됩니다.");
         }
     }
 
+    /**
+     * OpenAI 클라이언트 생성 - 녹화/재생 인터셉터를 끼운 OkHttp 클라이언트 사용
+     * (재생 모드에서는 API 키 없이도 녹화된 응답으로 동작)
+     */
+    private static com.theokanning.openai.service.OpenAiService createClient(
+            String apiKey, String baseUrl, OutboundRecordingStore recordingStore) {
+        OkHttpClient httpClient = com.theokanning.openai.service.OpenAiService.defaultClient(apiKey, Duration.ofSeconds(60))
+                .newBuilder()
+                .addInterceptor(new OutboundRecordingInterceptor("openai", recordingStore))
+                .build();
+        Retrofit retrofit = com.theokanning.openai.service.OpenAiService
+                .defaultRetrofit(httpClient, com.theokanning.openai.service.OpenAiService.defaultObjectMapper())
+                .newBuilder()
+                .baseUrl(baseUrl)
+                .build();
+        return new com.theokanning.openai.service.OpenAiService(
+                retrofit.create(OpenAiApi.class), httpClient.dispatcher().executorService());
+    }
+
     /**
      * 특정 종목의 기업 개요와 키워드를 생성
+     * - OpenAI 호출은 트랜잭션 밖에서 하고, 저장할 때만 짧은 트랜잭션 사용
      */
-    @Transactional
     public void generateStockInfo(String stockId) {
         if (openAiClient == null) {
             log.warn("OpenAI 서비스가 초기화되지 않았습니다.");
@@ -55,7 +138,6 @@ public class OpenAiService {
                     stockMaster.getName()
             );
             String description = callOpenAI(descriptionPrompt);
-            stockMaster.setDescription(description);
 
             // 2. 사업 내용 생성
             String businessPrompt = String.format(
@@ -63,7 +145,6 @@ public class OpenAiService {
                     stockMaster.getName()
             );
             String business = callOpenAI(businessPrompt);
-            stockMaster.setBusiness(business);
 
             // 3. 키워드 5개 생성
             String keywordPrompt = String.format(
@@ -72,82 +153,109 @@ public class OpenAiService {
             );
             String keywordsResponse = callOpenAI(keywordPrompt);
             List<String> keywords = parseKeywords(keywordsResponse);
-            stockMaster.setKeywords(keywords);
-
-            stockMasterRepository.save(stockMaster);
+            String inputHash = aiInputHash(stockMaster);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                StockMaster managed = stockMasterRepository.findByStockId(stockId)
+                        .orElseThrow(() -> new RuntimeException("StockMaster not found: " + stockId));
+                managed.setDescription(description);
+                managed.setBusiness(business);
+                managed.setKeywords(keywords);
+                managed.setAiInputHash(inputHash);
+            });
+            eventPublisher.publishEvent(StockDataChangedEvent.of(stockId));
             log.info("✅ {} OpenAI 정보 생성 완료", stockMaster.getName());
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
+            // 실패하면 기존 정보를 그대로 두고 작업 실패로 집계되도록 예외 전달
             log.error("❌ {} OpenAI 정보 생성 실패: {}", stockMaster.getName(), e.getMessage());
+            throw e;
         }
     }
 
     /**
      * 모든 종목의 기업 개요와 키워드를 생성
      */
-    public void generateAllStocksInfo() {
+    public IngestRun generateAllStocksInfo() {
         if (openAiClient == null) {
             log.warn("OpenAI 서비스가 초기화되지 않았습니다.");
-            return;
+            return new IngestRun("AI 정보 생성", 0);
         }
 
         List<StockMaster> stockMasters = stockMasterRepository.findAll();
         log.info("📊 총 {}개 종목의 AI 정보를 생성합니다...", stockMasters.size());
 
-        int successCount = 0;
-        int failCount = 0;
+        // 종목별로 가상 스레드에서 실행 (OpenAI 호출 속도는 RateLimiter가 조절)
+        return ingestExecutor.runAll("AI 정보 생성", stockMasters, StockMaster::getName, stockMaster -> {
+            generateStockInfo(stockMaster.getStockId());
+            return null;
+        });
+    }
 
-        for (int i = 0; i < stockMasters.size(); i++) {
-            StockMaster stockMaster = stockMasters.get(i);
-            try {
-                generateStockInfo(stockMaster.getStockId());
-                successCount++;
-                log.info("✅ [{}/{}] {} AI 정보 생성 완료", i + 1, stockMasters.size(), stockMaster.getName());
+    /**
+     * 아직 생성하지 않았거나 입력(종목명, 프롬프트 버전)이 바뀐 종목만 AI 정보 생성
+     * - 이전 생성 때 저장한 aiInputHash와 비교
+     * - 프롬프트에는 종목명만 들어가므로 시세/뉴스가 바뀌어도 다시 만들지 않음
+     */
+    public IngestRun generateChangedStocksInfo() {
+        if (openAiClient == null) {
+            log.warn("OpenAI 서비스가 초기화되지 않았습니다.");
+            return new IngestRun("AI 정보 재생성", 0);
+        }
 
-                // API 호출 제한 방지 (RPM 제한 고려)
-                Thread.sleep(1000); // 1초 대기
+        List<StockMaster> changed = stockMasterRepository.findAll().stream()
+                .filter(stockMaster -> !aiInputHash(stockMaster).equals(stockMaster.getAiInputHash()))
+                .toList();
+        log.info("📊 입력이 바뀐 {}개 종목의 AI 정보를 재생성합니다...", changed.size());
 
-            } catch (Exception e) {
-                failCount++;
-                log.error("❌ [{}/{}] {} AI 정보 생성 실패: {}", i + 1, stockMasters.size(), stockMaster.getName(), e.getMessage());
-            }
-        }
+        return ingestExecutor.runAll("AI 정보 재생성", changed, StockMaster::getName, stockMaster -> {
+            generateStockInfo(stockMaster.getStockId());
+            return null;
+        });
+    }
 
-        log.info("🎉 AI 정보 생성 완료! 성공: {}, 실패: {}", successCount, failCount);
+    /**
+     * AI 정보 생성 입력의 해시 (프롬프트를 바꾸면 AI_PROMPT_VERSION을 올려서 전체 재생성)
+     */
+    private String aiInputHash(StockMaster stockMaster) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((AI_PROMPT_VERSION + "|" + stockMaster.getName()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
      * OpenAI API 호출
+     * - 실패하면 예외 (오류 메시지를 응답으로 돌려주면 그대로 description 등에 저장되므로)
      */
     private String callOpenAI(String prompt) {
         if (openAiClient == null) {
-            return "OpenAI API 키가 설정되지 않았습니다.";
+            throw new IllegalStateException("OpenAI API 키가 설정되지 않았습니다.");
         }
 
-        try {
-            List<ChatMessage> messages = new ArrayList<>();
-            messages.add(new ChatMessage(ChatMessageRole.SYSTEM.value(), "당신은 한국 주식 시장 전문가입니다."));
-            messages.add(new ChatMessage(ChatMessageRole.USER.value(), prompt));
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(new ChatMessage(ChatMessageRole.SYSTEM.value(), "당신은 한국 주식 시장 전문가입니다."));
+        messages.add(new ChatMessage(ChatMessageRole.USER.value(), prompt));
 
-            ChatCompletionRequest request = ChatCompletionRequest.builder()
-                    .model("gpt-3.5-turbo")
-                    .messages(messages)
-                    .maxTokens(300)
-                    .temperature(0.7)
-                    .build();
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model("gpt-3.5-turbo")
+                .messages(messages)
+                .maxTokens(300)
+                .temperature(0.7)
+                .build();
 
-            var response = openAiClient.createChatCompletion(request);
-            return response.getChoices().get(0).getMessage().getContent().trim();
+        return complete(request);
+    }
 
-        } catch (Exception e) {
-            log.error("OpenAI API 호출 실패: {}", e.getMessage(), e);
-            if (e.getMessage() != null && e.getMessage().contains("401")) {
-                return "OpenAI API 키가 유효하지 않습니다. API 키를 확인해주세요.";
-            } else if (e.getMessage() != null && e.getMessage().contains("429")) {
-                return "OpenAI API 호출 한도가 초과되었습니다. 잠시 후 다시 시도해주세요.";
-            }
-            return "OpenAI API 호출 중 오류가 발생했습니다: " + e.getMessage();
-        }
+    /**
+     * ChatCompletion 요청 실행 (OpenAI 호출 제한/재시도/서킷 브레이커 적용)
+     */
+    private String complete(ChatCompletionRequest request) {
+        return externalDependencies.openAi().execute(() ->
+                openAiClient.createChatCompletion(request).getChoices().get(0).getMessage().getContent().trim());
     }
 
     /**
@@ -259,8 +367,7 @@ public class OpenAiService {
                     .temperature(0.7)
                     .build();
 
-            var response = openAiClient.createChatCompletion(request);
-            String answer = response.getChoices().get(0).getMessage().getContent().trim();
+            String answer = complete(request);
             
             log.info("✅ 챗봇 응답 생성 완료");
             return answer;
@@ -330,66 +437,175 @@ public class OpenAiService {
     }
     
     /**
-     * 뉴스 감성 분석 (호재/악재 판단)
-     * @param stockName 종목명
-     * @param newsTitle 뉴스 제목
-     * @param newsSummary 뉴스 요약
-     * @return Map with "sentiment" (POSITIVE/NEGATIVE/NEUTRAL) and "score" (0.0~1.0)
+     * 뉴스 감성 분석 (호재/악재 판단) - 여러 제목을 한 번의 요청으로 분류
+     * - 먼저 NewsSentimentCache에서 찾고, 없는 제목만 (같은 키는 한 번만) OpenAI에 요청
+     * - 종목이 달라도 함께 보낼 수 있음 (제목마다 종목명을 붙여서 보냄)
+     * - 입력 토큰 추정치가 max-input-tokens, 개수가 max-items를 넘지 않도록 나눠서 요청
+     * - 응답(JSON 배열)을 파싱하지 못하면 절반씩 나눠 다시 요청, 1건도 실패하면 NEUTRAL
+     * - OpenAI 호출 자체가 실패하면 해당 묶음은 NEUTRAL (뉴스 저장은 계속 진행, 캐시에는 저장하지 않음)
+     *
+     * @return headlines와 같은 순서의 결과
      */
-    public Map<String, Object> analyzeNewsSentiment(String stockName, String newsTitle, String newsSummary) {
+    public List<NewsSentiment> analyzeNewsSentiments(List<NewsHeadline> headlines) {
         if (openAiClient == null) {
             log.warn("⚠️ OpenAI 클라이언트가 초기화되지 않았습니다. 기본값 NEUTRAL 반환");
-            return Map.of("sentiment", "NEUTRAL", "score", 0.5);
+            return headlines.stream().map(headline -> NewsSentiment.neutral()).toList();
         }
-        
+
+        List<String> keys = headlines.stream()
+                .map(headline -> NewsSentimentCache.key(headline.getStockName(), headline.getTitle()))
+                .toList();
+        Map<String, NewsSentiment> sentiments = new HashMap<>(sentimentCache.getAll(keys, SENTIMENT_MODEL_VERSION));
+        Map<String, NewsHeadline> misses = new LinkedHashMap<>();
+        for (int i = 0; i < headlines.size(); i++) {
+            if (!sentiments.containsKey(keys.get(i))) {
+                misses.putIfAbsent(keys.get(i), headlines.get(i));
+            }
+        }
+
+        List<String> missKeys = List.copyOf(misses.keySet());
+        List<List<NewsHeadline>> batches = planSentimentBatches(List.copyOf(misses.values()));
+        sentimentCache.recordSavedCalls(planSentimentBatches(headlines).size() - batches.size());
+
+        Map<String, NewsSentiment> analyzed = new HashMap<>();
+        int offset = 0;
+        for (List<NewsHeadline> batch : batches) {
+            List<NewsSentiment> results = classifySentiments(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                if (results.get(i) != null) {
+                    analyzed.put(missKeys.get(offset + i), results.get(i));
+                }
+            }
+            offset += batch.size();
+        }
+        sentimentCache.putAll(analyzed, SENTIMENT_MODEL_VERSION);
+        sentiments.putAll(analyzed);
+
+        return keys.stream().map(key -> sentiments.getOrDefault(key, NewsSentiment.neutral())).toList();
+    }
+
+    /**
+     * 요청 단위로 나누기 (개수 max-items, 프롬프트 앞뒤 고정 문구를 포함한 입력 토큰 추정치 max-input-tokens 이내)
+     */
+    List<List<NewsHeadline>> planSentimentBatches(List<NewsHeadline> headlines) {
+        List<List<NewsHeadline>> batches = new ArrayList<>();
+        List<NewsHeadline> batch = new ArrayList<>();
+        int batchTokens = SENTIMENT_PROMPT_OVERHEAD_TOKENS;
+        for (NewsHeadline headline : headlines) {
+            int tokens = estimateTokens(sentimentLine(batch.size() + 1, headline));
+            if (!batch.isEmpty() && (batch.size() >= sentimentBatchMaxItems || batchTokens + tokens > sentimentBatchMaxInputTokens)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchTokens = SENTIMENT_PROMPT_OVERHEAD_TOKENS;
+            }
+            batch.add(headline);
+            batchTokens += tokens;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * 한 묶음 분류 - 실패한 항목은 null
+     */
+    private List<NewsSentiment> classifySentiments(List<NewsHeadline> batch) {
+        StringBuilder prompt = new StringBuilder(SENTIMENT_PROMPT_HEADER);
+        for (int i = 0; i < batch.size(); i++) {
+            prompt.append(sentimentLine(i + 1, batch.get(i)));
+        }
+        prompt.append(SENTIMENT_PROMPT_FOOTER);
+
+        ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
+                .model(SENTIMENT_MODEL)
+                .messages(List.of(new ChatMessage(ChatMessageRole.USER.value(), prompt.toString())))
+                .maxTokens(SENTIMENT_OUTPUT_TOKENS_PER_ITEM * batch.size() + 20)
+                .temperature(0.3)
+                .build();
+
+        String response;
         try {
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("당신은 주식 뉴스 감성 분석 전문가입니다.\n\n");
-            prompt.append("종목명: ").append(stockName).append("\n");
-            prompt.append("뉴스 제목: ").append(newsTitle).append("\n");
-            if (newsSummary != null && !newsSummary.isEmpty()) {
-                prompt.append("뉴스 요약: ").append(newsSummary).append("\n");
+            response = complete(completionRequest);
+        } catch (RuntimeException e) {
+            log.error("❌ 뉴스 감성 분석 실패 ({}건): {}", batch.size(), e.getMessage());
+            return Collections.nCopies(batch.size(), null);
+        }
+
+        try {
+            List<NewsSentiment> sentiments = parseSentiments(response, batch.size());
+            log.info("📊 뉴스 감성 분석 완료: {}건 (요청 1회)", batch.size());
+            return sentiments;
+        } catch (IllegalArgumentException e) {
+            if (batch.size() == 1) {
+                log.warn("⚠️ 뉴스 감성 분석 응답 파싱 실패, NEUTRAL로 처리: {}", e.getMessage());
+                return Collections.singletonList(null);
             }
-            prompt.append("\n");
-            prompt.append("위 뉴스가 해당 종목에 미치는 영향을 분석하여 다음 중 하나로 분류해주세요:\n");
-            prompt.append("- POSITIVE: 호재 (주가 상승에 긍정적)\n");
-            prompt.append("- NEGATIVE: 악재 (주가 하락에 부정적)\n");
-            prompt.append("- NEUTRAL: 중립 (영향 미미하거나 불명확)\n\n");
-            prompt.append("응답 형식: [감성]|[점수]\n");
-            prompt.append("예시: POSITIVE|0.85\n");
-            prompt.append("점수는 0.0(매우 부정) ~ 1.0(매우 긍정) 범위로 제공해주세요.");
-            
-            List<ChatMessage> messages = new ArrayList<>();
-            messages.add(new ChatMessage(ChatMessageRole.USER.value(), prompt.toString()));
-            
-            ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
-                    .model("gpt-3.5-turbo")
-                    .messages(messages)
-                    .maxTokens(50)
-                    .temperature(0.3)
-                    .build();
-            
-            String response = openAiClient.createChatCompletion(completionRequest)
-                    .getChoices().get(0).getMessage().getContent().trim();
-            
-            log.info("📊 뉴스 감성 분석 결과: {}", response);
-            
-            // 응답 파싱: "POSITIVE|0.85" 형식
-            String[] parts = response.split("\\|");
-            String sentiment = parts.length > 0 ? parts[0].trim().toUpperCase() : "NEUTRAL";
-            double score = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : 0.5;
-            
-            // sentiment 값 검증
+            log.warn("⚠️ 뉴스 감성 분석 응답 파싱 실패 ({}건), 나눠서 다시 요청: {}", batch.size(), e.getMessage());
+            int mid = batch.size() / 2;
+            List<NewsSentiment> sentiments = new ArrayList<>(classifySentiments(batch.subList(0, mid)));
+            sentiments.addAll(classifySentiments(batch.subList(mid, batch.size())));
+            return sentiments;
+        }
+    }
+
+    private static String sentimentLine(int id, NewsHeadline headline) {
+        return id + ". [" + headline.getStockName() + "] " + headline.getTitle() + "\n";
+    }
+
+    /**
+     * 응답 파싱: [{"id":1,"sentiment":"POSITIVE","score":0.85}, ...] 형식
+     * - 번호가 빠지거나 배열이 아니면 IllegalArgumentException
+     * - 알 수 없는 sentiment 값은 NEUTRAL
+     */
+    static List<NewsSentiment> parseSentiments(String response, int expected) {
+        int start = response.indexOf('[');
+        int end = response.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("JSON 배열 없음");
+        }
+        JsonNode array;
+        try {
+            array = SENTIMENT_MAPPER.readTree(response.substring(start, end + 1));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+
+        NewsSentiment[] sentiments = new NewsSentiment[expected];
+        for (JsonNode node : array) {
+            int id = node.path("id").asInt(0);
+            if (id < 1 || id > expected) {
+                continue;
+            }
+            String sentiment = node.path("sentiment").asText("").trim().toUpperCase(Locale.ROOT);
+            double score = node.path("score").asDouble(0.5);
             if (!sentiment.equals("POSITIVE") && !sentiment.equals("NEGATIVE") && !sentiment.equals("NEUTRAL")) {
-                sentiment = "NEUTRAL";
-                score = 0.5;
+                sentiments[id - 1] = NewsSentiment.neutral();
+            } else {
+                sentiments[id - 1] = new NewsSentiment(sentiment, Math.max(0.0, Math.min(1.0, score)));
+            }
+        }
+        for (int i = 0; i < expected; i++) {
+            if (sentiments[i] == null) {
+                throw new IllegalArgumentException("결과 누락: " + (i + 1) + "번");
+            }
+        }
+        return List.of(sentiments);
+    }
+
+    /**
+     * 입력 토큰 수 추정 - 한글 등 비ASCII 문자는 1자당 1토큰, ASCII는 4자당 1토큰으로 넉넉하게 계산
+     */
+    static int estimateTokens(String text) {
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
             }
-            
-            return Map.of("sentiment", sentiment, "score", score);
-            
-        } catch (Exception e) {
-            log.error("❌ 뉴스 감성 분석 실패: {}", e.getMessage());
-            return Map.of("sentiment", "NEUTRAL", "score", 0.5);
         }
+        return other + (ascii + 3) / 4;
     }
 }
@@ -0,0 +1,263 @@
+package com.stockswipe.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 외부 API 공용 HTTP 클라이언트
+ * - 대상(Host)마다 JDK HttpClient 1개를 만들어 재사용 → 연결 풀/keep-alive, 가능하면 HTTP/2
+ * - 대상별 connect/read 타임아웃 (outbound.http.{host}.connect-timeout / read-timeout)
+ *   read-timeout은 응답 헤더까지, 그리고 헤더를 받은 뒤 본문을 다 읽을 때까지에 각각 적용
+ * - gzip 응답은 자동으로 풀어서 스트림으로 반환
+ * - 메트릭: outbound.http.requests (대상/상태별 응답 시간), outbound.http.in-flight (진행 중 요청 수)
+ * - 녹화/재생 모드에서는 OutboundRecordingStore를 거침 (재생 시에도 메트릭은 같게 기록)
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient {
+
+    public enum Host {
+        STOCK_API("stock-api"),
+        GOOGLE_NEWS("google-news");
+
+        private final String key;
+
+        Host(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    /**
+     * 응답 상태/헤더와 (gzip이 풀린) 본문 스트림 - 사용 후 close 필요
+     */
+    public record Response(int status, HttpHeaders headers, InputStream body) implements AutoCloseable {
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+    }
+
+    public static final int NOT_MODIFIED = 304;
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final Map<Host, HttpClient> clients = new EnumMap<>(Host.class);
+    private final Map<Host, Duration> readTimeouts = new EnumMap<>(Host.class);
+    private final Map<Host, AtomicInteger> inFlight = new EnumMap<>(Host.class);
+    private final MeterRegistry meterRegistry;
+    private final OutboundRecordingStore recordingStore;
+    private final ScheduledExecutorService bodyTimeouts = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbound-body-timeout").daemon().factory());
+
+    public OutboundHttpClient(Environment env, MeterRegistry meterRegistry, OutboundRecordingStore recordingStore) {
+        this.meterRegistry = meterRegistry;
+        this.recordingStore = recordingStore;
+        for (Host host : Host.values()) {
+            String prefix = "outbound.http." + host.key() + ".";
+            Duration connectTimeout = env.getProperty(prefix + "connect-timeout", Duration.class, Duration.ofSeconds(3));
+            Duration readTimeout = env.getProperty(prefix + "read-timeout", Duration.class, Duration.ofSeconds(15));
+
+            clients.put(host, HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2) // 서버가 지원하지 않으면 HTTP/1.1로 자동 전환
+                    .connectTimeout(connectTimeout)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build());
+            readTimeouts.put(host, readTimeout);
+
+            AtomicInteger counter = meterRegistry.gauge("outbound.http.in-flight",
+                    Tags.of("host", host.key()), new AtomicInteger());
+            inFlight.put(host, counter);
+            log.debug("외부 HTTP 클라이언트 {}: connect={}, read={}", host.key(), connectTimeout, readTimeout);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bodyTimeouts.shutdownNow();
+    }
+
+    /**
+     * GET 요청 - 2xx/304가 아니면 OutboundHttpException
+     * (304 Not Modified는 조건부 요청 헤더를 보낸 경우에만 오며, 본문은 비어 있음)
+     */
+    public Response get(Host host, URI uri) throws IOException {
+        return get(host, uri, Map.of());
+    }
+
+    public Response get(Host host, URI uri, Map<String, String> headers) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeouts.get(host))
+                .header("Accept-Encoding", "gzip")
+                .header("User-Agent", USER_AGENT)
+                .GET();
+        headers.forEach(request::header);
+
+        AtomicInteger counter = inFlight.get(host);
+        counter.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "IO_ERROR";
+        try {
+            Response response = recordingStore.isReplay()
+                    ? replay(host, uri, headers)
+                    : send(host, request.build());
+            outcome = String.valueOf(response.status());
+
+            if (response.status() == NOT_MODIFIED) {
+                return response;
+            }
+            if (response.status() / 100 != 2) {
+                response.close();
+                throw new OutboundHttpException(host.key(), response.status(), response.headers());
+            }
+            return recordingStore.isRecord() ? record(host, uri, response) : response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "INTERRUPTED";
+            throw new InterruptedIOException(host.key() + " 요청이 중단되었습니다.");
+        } finally {
+            counter.decrementAndGet();
+            sample.stop(meterRegistry.timer("outbound.http.requests", "host", host.key(), "status", outcome));
+        }
+    }
+
+    private Response send(Host host, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = clients.get(host).send(request, HttpResponse.BodyHandlers.ofInputStream());
+        InputStream body = new DeadlineInputStream(response.body(), host.key(), readTimeouts.get(host), bodyTimeouts);
+        if (response.headers().firstValue("Content-Encoding").filter("gzip"::equalsIgnoreCase).isPresent()) {
+            body = new GZIPInputStream(body);
+        }
+        return new Response(response.statusCode(), response.headers(), body);
+    }
+
+    /**
+     * 녹화된 응답 재생 - 조건부 요청 헤더가 녹화된 ETag/Last-Modified와 같으면 304
+     */
+    private Response replay(Host host, URI uri, Map<String, String> requestHeaders) {
+        OutboundRecordingStore.Recording recording =
+                recordingStore.replay(host.key(), recordingStore.requestKey("GET", uri, null));
+        Map<String, List<String>> headers = new HashMap<>();
+        recording.headers().forEach((name, value) -> headers.put(name, List.of(value)));
+        HttpHeaders httpHeaders = HttpHeaders.of(headers, (name, value) -> true);
+
+        String etag = recording.headers().get("etag");
+        String lastModified = recording.headers().get("last-modified");
+        if ((etag != null && etag.equals(requestHeaders.get("If-None-Match")))
+                || (lastModified != null && lastModified.equals(requestHeaders.get("If-Modified-Since")))) {
+            return new Response(NOT_MODIFIED, httpHeaders, InputStream.nullInputStream());
+        }
+        return new Response(recording.status(), httpHeaders, new ByteArrayInputStream(recording.bodyBytes()));
+    }
+
+    /**
+     * 본문을 모두 읽어서 저장한 뒤 메모리에서 다시 읽도록 반환
+     */
+    private Response record(Host host, URI uri, Response response) throws IOException {
+        byte[] body;
+        try (response) {
+            body = response.body().readAllBytes();
+        }
+        Map<String, String> headers = new HashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (OutboundRecordingStore.RECORDED_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !values.isEmpty()) {
+                headers.put(name.toLowerCase(Locale.ROOT), values.get(0));
+            }
+        });
+        recordingStore.record(host.key(), new OutboundRecordingStore.Recording(
+                recordingStore.requestKey("GET", uri, null), response.status(), headers,
+                new String(body, StandardCharsets.UTF_8)));
+        return new Response(response.status(), response.headers(), new ByteArrayInputStream(body));
+    }
+
+    /**
+     * 본문 읽기 제한 시간 (HttpRequest.timeout은 응답 헤더를 받을 때까지만 적용됨)
+     * - 기한이 지나면 원래 스트림을 닫음 → 막혀 있던 read()가 깨어나 HttpTimeoutException
+     * - 본문이 멈춘 외부 API 때문에 RateLimiter 허가/서킷 브레이커 호출을 계속 잡고 있지 않도록
+     */
+    private static final class DeadlineInputStream extends FilterInputStream {
+
+        private final String hostKey;
+        private final Duration limit;
+        private final ScheduledFuture<?> deadline;
+        private volatile boolean expired;
+
+        DeadlineInputStream(InputStream in, String hostKey, Duration limit, ScheduledExecutorService scheduler) {
+            super(in);
+            this.hostKey = hostKey;
+            this.limit = limit;
+            this.deadline = scheduler.schedule(() -> {
+                expired = true;
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    log.debug("{} 응답 본문 닫기 실패: {}", hostKey, e.getMessage());
+                }
+            }, limit.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                throw expired ? timeout(e) : e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                throw expired ? timeout(e) : e;
+            }
+        }
+
+        private IOException timeout(IOException cause) {
+            HttpTimeoutException timeout = new HttpTimeoutException(
+                    hostKey + " 응답 본문을 " + limit.toMillis() + "ms 안에 받지 못했습니다.");
+            timeout.initCause(cause);
+            return timeout;
+        }
+
+        @Override
+        public void close() throws IOException {
+            deadline.cancel(false);
+            super.close();
+        }
+    }
+}
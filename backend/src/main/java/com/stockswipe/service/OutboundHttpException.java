@@ -0,0 +1,28 @@
+package com.stockswipe.service;
+
+import java.net.http.HttpHeaders;
+
+/**
+ * 외부 API가 2xx가 아닌 응답을 보낸 경우
+ */
+public class OutboundHttpException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+    private final transient HttpHeaders headers;   // HttpHeaders는 Serializable이 아님
+
+    public OutboundHttpException(String host, int status, HttpHeaders headers) {
+        super(host + " 응답 오류: HTTP " + status);
+        this.status = status;
+        this.headers = headers;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+}
@@ -0,0 +1,77 @@
+package com.stockswipe.service;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * OkHttp 기반 클라이언트(OpenAI SDK)용 녹화/재생 인터셉터
+ * - POST 요청은 본문 해시까지 키에 포함 (프롬프트가 다르면 다른 응답)
+ * - Authorization 헤더는 키와 녹화 파일에 포함하지 않음
+ */
+public class OutboundRecordingInterceptor implements Interceptor {
+
+    private final String host;
+    private final OutboundRecordingStore recordingStore;
+
+    public OutboundRecordingInterceptor(String host, OutboundRecordingStore recordingStore) {
+        this.host = host;
+        this.recordingStore = recordingStore;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!recordingStore.isReplay() && !recordingStore.isRecord()) {
+            return chain.proceed(request);
+        }
+
+        byte[] requestBody = null;
+        if (request.body() != null) {
+            Buffer buffer = new Buffer();
+            request.body().writeTo(buffer);
+            requestBody = buffer.readByteArray();
+        }
+        String requestKey = recordingStore.requestKey(request.method(), request.url().uri(), requestBody);
+
+        if (recordingStore.isReplay()) {
+            OutboundRecordingStore.Recording recording = recordingStore.replay(host, requestKey);
+            String contentType = recording.headers().getOrDefault("content-type", "application/json");
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(recording.status())
+                    .message("Replayed")
+                    .headers(Headers.of(recording.headers()))
+                    .body(ResponseBody.create(recording.bodyBytes(), MediaType.parse(contentType)))
+                    .build();
+        }
+
+        Response response = chain.proceed(request);
+        if (!response.isSuccessful() || response.body() == null) {
+            return response;
+        }
+        MediaType contentType = response.body().contentType();
+        byte[] body = response.body().bytes();
+        Map<String, String> headers = new HashMap<>();
+        for (String name : response.headers().names()) {
+            if (OutboundRecordingStore.RECORDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name.toLowerCase(Locale.ROOT), response.header(name));
+            }
+        }
+        recordingStore.record(host, new OutboundRecordingStore.Recording(
+                requestKey, response.code(), headers, new String(body, StandardCharsets.UTF_8)));
+        return response.newBuilder().body(ResponseBody.create(body, contentType)).build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.stockswipe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 응답 녹화/재생 저장소 (오프라인 실행, 부하 테스트용)
+ * - live: 그대로 호출 (기본값)
+ * - record: 실제로 호출하고 2xx 응답을 디스크에 저장
+ * - replay: 호출하지 않고 저장된 응답을 반환 (없으면 IllegalStateException), 설정한 지연 시간만큼 대기
+ * - 저장 위치: {dir}/{host}/{요청 키의 SHA-256}.json
+ * - 요청 키: 메서드 + 경로 + 정렬된 쿼리(ignored-params 제외) + 요청 본문 해시 (호스트/API 키는 포함하지 않음)
+ */
+@Slf4j
+@Component
+public class OutboundRecordingStore {
+
+    public enum Mode {
+        LIVE, RECORD, REPLAY
+    }
+
+    /**
+     * 녹화된 응답 - 본문은 압축을 푼 텍스트
+     */
+    public record Recording(String request, int status, Map<String, String> headers, String body) {
+        public byte[] bodyBytes() {
+            return body.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 재생할 때 의미가 있는 응답 헤더만 저장 (Content-Encoding 등은 저장하지 않음)
+     */
+    public static final Set<String> RECORDED_HEADERS = Set.of("content-type", "etag", "last-modified", "cache-control");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Mode mode;
+    private final Path dir;
+    private final Set<String> ignoredParams;
+    private final Environment env;
+
+    public OutboundRecordingStore(Environment env) {
+        this.env = env;
+        this.mode = Mode.valueOf(env.getProperty("outbound.recording.mode", "live").trim().toUpperCase(Locale.ROOT));
+        this.dir = Path.of(env.getProperty("outbound.recording.dir", "fixtures/outbound"));
+        this.ignoredParams = new HashSet<>(Arrays.asList(
+                env.getProperty("outbound.recording.ignored-params", String[].class, new String[]{"serviceKey"})));
+        if (mode != Mode.LIVE) {
+            log.info("🎞️ 외부 API 응답 {} 모드 (경로: {})", mode, dir.toAbsolutePath());
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isReplay() {
+        return mode == Mode.REPLAY;
+    }
+
+    public boolean isRecord() {
+        return mode == Mode.RECORD;
+    }
+
+    /**
+     * 요청 키 (녹화 파일 안에도 같이 저장해서 어떤 요청인지 확인 가능)
+     */
+    public String requestKey(String method, URI uri, byte[] requestBody) {
+        StringBuilder key = new StringBuilder(method).append(' ').append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            List<String> params = new ArrayList<>();
+            for (String param : uri.getRawQuery().split("&")) {
+                String name = param.split("=", 2)[0];
+                if (!param.isEmpty() && !ignoredParams.contains(name)) {
+                    params.add(param);
+                }
+            }
+            Collections.sort(params);
+            key.append('?').append(String.join("&", params));
+        }
+        if (requestBody != null && requestBody.length > 0) {
+            key.append(" body=").append(sha256(requestBody));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 녹화된 응답 조회 - 재생 지연 시간만큼 대기 후 반환
+     */
+    public Recording replay(String host, String requestKey) {
+        Path file = fileFor(host, requestKey);
+        if (!Files.exists(file)) {
+            throw new IllegalStateException(host + " 녹화된 응답이 없습니다: " + requestKey);
+        }
+        try {
+            Recording recording = MAPPER.readValue(file.toFile(), Recording.class);
+            simulateLatency(host);
+            return recording;
+        } catch (IOException e) {
+            throw new UncheckedIOException(host + " 녹화 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 응답 저장 (임시 파일에 쓴 뒤 이동 - 동시에 같은 요청을 녹화해도 파일이 깨지지 않음)
+     */
+    public void record(String host, Recording recording) {
+        Path file = fileFor(host, recording.request());
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), "recording", ".tmp");
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), recording);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("{} 응답 녹화: {}", host, recording.request());
+        } catch (IOException e) {
+            log.warn("{} 응답 녹화 실패 ({}): {}", host, recording.request(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재생 지연: outbound.recording.{host}.replay-latency (없으면 outbound.recording.replay-latency)
+     * + 0 ~ replay-latency-jitter 사이 임의 시간
+     */
+    private void simulateLatency(String host) {
+        Duration latency = durationProperty(host, "replay-latency");
+        Duration jitter = durationProperty(host, "replay-latency-jitter");
+        long millis = latency.toMillis()
+                + (jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1));
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(host + " 재생 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    private Duration durationProperty(String host, String name) {
+        Duration fallback = env.getProperty("outbound.recording." + name, Duration.class, Duration.ZERO);
+        return env.getProperty("outbound.recording." + host + "." + name, Duration.class, fallback);
+    }
+
+    private Path fileFor(String host, String requestKey) {
+        return dir.resolve(host).resolve(sha256(requestKey.getBytes(StandardCharsets.UTF_8)) + ".json");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.stockswipe.service;
+
+import com.stockswipe.model.IngestCheckpoint;
+import com.stockswipe.model.StockMaster;
+import com.stockswipe.repository.IngestCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 과거 주가 백필
+ * - 기간 내 거래일마다 시장 전체 시세를 일괄 수집 (주말/휴장일은 호출하지 않음)
+ * - 하루를 끝낼 때마다 체크포인트 저장 → 중단 후 같은 기간으로 다시 실행하면 이어서 진행
+ * - 변경 이벤트는 마지막에 한 번만 발행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceBackfillService {
+
+    private static final String JOB_PREFIX = "price-backfill:";
+
+    private final StockApiService stockApiService;
+    private final TradingCalendar tradingCalendar;
+    private final IngestCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 백필 결과
+     *
+     * @param tradingDays 기간 내 거래일 수
+     * @param resumedDays 이전 실행에서 이미 끝나서 건너뛴 거래일 수
+     * @param loadedDays  이번 실행에서 저장한 거래일 수
+     * @param emptyDays   데이터가 없던 거래일 수 (등록되지 않은 휴장일 등)
+     * @param rows        실제로 INSERT/UPDATE된 주가 행 수 (값이 그대로인 행 제외)
+     */
+    public record BackfillResult(String from, String to, int tradingDays, int resumedDays,
+                                 int loadedDays, int emptyDays, int rows) {
+    }
+
+    public BackfillResult backfill(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("백필 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        // 체크포인트 키는 요청한 기간 그대로 (다른 날 같은 기간으로 다시 실행해도 이어서 진행)
+        String jobName = JOB_PREFIX + from.format(TradingCalendar.BAS_DT_FORMAT)
+                + "-" + to.format(TradingCalendar.BAS_DT_FORMAT);
+
+        // 아직 공개되지 않은 날짜는 제외 (반복 범위만 줄임)
+        LocalDate lastAvailable = tradingCalendar.previousTradingDay(LocalDate.now());
+        LocalDate until = to.isAfter(lastAvailable) ? lastAvailable : to;
+        if (from.isAfter(until)) {
+            throw new IllegalArgumentException("백필할 수 있는 거래일이 없습니다: " + from + " ~ " + to
+                    + " (마지막 공개일 " + lastAvailable + ")");
+        }
+
+        String fromDt = from.format(TradingCalendar.BAS_DT_FORMAT);
+        String toDt = until.format(TradingCalendar.BAS_DT_FORMAT);
+        IngestCheckpoint checkpoint = checkpointRepository.findByJobName(jobName)
+                .orElseGet(() -> new IngestCheckpoint(jobName));
+        String cursor = checkpoint.getCursorValue();
+
+        List<LocalDate> days = tradingCalendar.tradingDays(from, until);
+        Job job = JobService.currentJob().orElse(null);
+        if (job != null) {
+            job.addTotal(days.size());
+        }
+        Map<String, StockMaster> stockMasters = stockApiService.loadStockMasters();
+        log.info("📚 주가 백필 시작: {} ~ {} (거래일 {}일, 이어서 시작: {})",
+                fromDt, toDt, days.size(), cursor != null ? cursor : "처음부터");
+
+        Set<String> changedStockIds = new HashSet<>();
+        int resumedDays = 0;
+        int loadedDays = 0;
+        int emptyDays = 0;
+        int rows = 0;
+        try {
+            for (int i = 0; i < days.size(); i++) {
+                String basDt = days.get(i).format(TradingCalendar.BAS_DT_FORMAT);
+                if (cursor != null && basDt.compareTo(cursor) <= 0) {
+                    resumedDays++;
+                    if (job != null) {
+                        job.recordSuccess();
+                    }
+                    continue;
+                }
+                if (job != null && job.isCancelRequested()) {
+                    log.info("🛑 주가 백필 취소 - {}부터 다시 실행하면 이어서 진행", basDt);
+                    break;
+                }
+
+                StockApiService.MarketDayResult result = stockApiService.ingestMarketDay(basDt, stockMasters);
+                if (result.received() == 0) {
+                    emptyDays++;
+                    log.warn("⚠️ [{}/{}] {} 시세 데이터 없음 (휴장일 목록 확인 필요)", i + 1, days.size(), basDt);
+                } else {
+                    loadedDays++;
+                    rows += result.changedStockIds().size();
+                    changedStockIds.addAll(result.changedStockIds());
+                    log.info("✅ [{}/{}] {} 백필 완료 ({}개 종목, 변경 {}개)", i + 1, days.size(), basDt,
+                            result.received(), result.changedStockIds().size());
+                }
+
+                checkpoint.setCursorValue(basDt);
+                checkpoint = checkpointRepository.save(checkpoint);
+                if (job != null) {
+                    job.recordSuccess();
+                }
+            }
+        } finally {
+            if (!changedStockIds.isEmpty()) {
+                eventPublisher.publishEvent(new StockDataChangedEvent(Set.copyOf(changedStockIds)));
+            }
+        }
+
+        log.info("🎉 주가 백필 완료! 저장: {}일 / {}행, 데이터 없음: {}일, 건너뜀: {}일",
+                loadedDays, rows, emptyDays, resumedDays);
+        return new BackfillResult(fromDt, toDt, days.size(), resumedDays, loadedDays, emptyDays, rows);
+    }
+}
@@ -0,0 +1,87 @@
+package com.stockswipe.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 외부 API 호출 제한기 (토큰 버킷 + 동시 요청 수 제한)
+ * - 초당 permitsPerSecond개의 토큰이 채워지고, 최대 1초 분량까지 쌓임
+ * - 토큰이 없으면 다음 토큰이 채워질 때까지만 대기 (고정 sleep 없음)
+ * - maxConcurrency로 동시에 진행 중인 요청 수 제한
+ */
+public class RateLimiter {
+
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private final String name;
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final Semaphore concurrency;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public RateLimiter(String name, double permitsPerSecond, int maxConcurrency) {
+        if (permitsPerSecond <= 0 || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("잘못된 호출 제한 설정: " + name);
+        }
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = Math.max(1.0, permitsPerSecond);
+        this.concurrency = new Semaphore(maxConcurrency, true);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 호출 제한 안에서 작업 실행 (동시 요청 슬롯 + 토큰 1개 사용)
+     */
+    public <T, E extends Exception> T execute(Call<T, E> call) throws E {
+        try {
+            concurrency.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(name + " 호출 대기 중 중단되었습니다.", e);
+        }
+        try {
+            acquireToken();
+            return call.call();
+        } finally {
+            concurrency.release();
+        }
+    }
+
+    private void acquireToken() {
+        while (true) {
+            long waitNanos;
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerSecond / 1e9);
+                lastRefillNanos = now;
+                if (tokens >= 1.0) {
+                    tokens -= 1.0;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1.0 - tokens) / permitsPerSecond * 1e9);
+            } finally {
+                lock.unlock();
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(name + " 호출 대기 중 중단되었습니다.", e);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
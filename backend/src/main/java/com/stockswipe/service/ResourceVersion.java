@@ -0,0 +1,17 @@
+package com.stockswipe.service;
+
+/**
+ * 조건부 GET 검증값
+ *
+ * @param etag 강한 ETag (따옴표 포함)
+ * @param lastModified 최종 수정 시각 (epoch ms, 알 수 없으면 0 이하)
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    /**
+     * 표현(gzip, cbor 등)별로 구분되는 ETag (강한 ETag는 바이트가 다르면 달라야 함)
+     */
+    public ResourceVersion withVariant(String variant) {
+        return new ResourceVersion(etag.substring(0, etag.length() - 1) + "-" + variant + "\"", lastModified);
+    }
+}
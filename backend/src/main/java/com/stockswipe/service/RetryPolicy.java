@@ -0,0 +1,136 @@
+package com.stockswipe.service;
+
+import com.theokanning.openai.OpenAiHttpException;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 호출 재시도 정책
+ * - 지수 백오프 + full jitter: 0 ~ min(maxDelay, baseDelay * 2^(attempt-1)) 사이 임의 대기
+ * - 429/503 응답에 Retry-After가 있으면 그 시간만큼 대기 (maxRetryAfter보다 길면 재시도하지 않음)
+ * - 일시적인 실패(네트워크 오류, 408/429/5xx)만 재시도
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxRetryAfter;
+
+    public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Duration maxRetryAfter) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts는 1 이상이어야 합니다.");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * attempt번째 실패 후 다음 시도까지 대기 시간 (재시도하지 않을 경우 empty)
+     */
+    public Optional<Duration> delayAfter(int attempt, Throwable failure) {
+        if (attempt >= maxAttempts || !isTransient(failure)) {
+            return Optional.empty();
+        }
+        Optional<Duration> retryAfter = retryAfter(failure);
+        if (retryAfter.isPresent()) {
+            return retryAfter.get().compareTo(maxRetryAfter) <= 0 ? retryAfter : Optional.empty();
+        }
+        long capMillis = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 1, 20));
+        return Optional.of(Duration.ofMillis(ThreadLocalRandom.current().nextLong(capMillis + 1)));
+    }
+
+    /**
+     * 업스트림 상태 때문에 생긴 일시적인 실패인지 (서킷 브레이커 실패 집계에도 사용)
+     */
+    public static boolean isTransient(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof CircuitOpenException) {
+                return false;
+            }
+            if (t instanceof OutboundHttpException e) {
+                return isTransientStatus(e.getStatus());
+            }
+            if (t instanceof OpenAiHttpException e) {
+                return isTransientStatus(e.statusCode);
+            }
+            if (t instanceof retrofit2.HttpException e) {
+                return isTransientStatus(e.code());
+            }
+            if (t instanceof IOException) {
+                return true; // 연결 실패, 타임아웃, 응답 중간 끊김
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 원인 체인에서 IOException 찾기 (없으면 null)
+     * - 스트리밍 파서가 XMLStreamException으로 감싼 응답 읽기 오류(중간 끊김, 본문 읽기 타임아웃)를 꺼낼 때 사용
+     * - JDK StAX 구현은 읽기 오류를 getCause()가 아닌 getNestedException()에만 담으므로 둘 다 따라감
+     */
+    static IOException findIOException(Throwable failure) {
+        for (Throwable t = failure; t != null; t = next(t)) {
+            if (t instanceof IOException e) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private static Throwable next(Throwable t) {
+        if (t.getCause() == null && t instanceof XMLStreamException e) {
+            return e.getNestedException();
+        }
+        return t.getCause();
+    }
+
+    private static boolean isTransientStatus(int status) {
+        return status == 408 || status == 429 || status / 100 == 5;
+    }
+
+    /**
+     * 응답의 Retry-After (초 또는 HTTP-date)
+     */
+    static Optional<Duration> retryAfter(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof OutboundHttpException e) {
+                return e.getHeaders().firstValue("Retry-After").flatMap(RetryPolicy::parseRetryAfter);
+            }
+            if (t instanceof retrofit2.HttpException e && e.response() != null) {
+                return Optional.ofNullable(e.response().headers().get("Retry-After"))
+                        .flatMap(RetryPolicy::parseRetryAfter);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Duration> parseRetryAfter(String value) {
+        String text = value.trim();
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(text))));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            Duration delay = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(text, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.stockswipe.service;
 
+import com.stockswipe.dto.StockPriceItem;
 import com.stockswipe.model.StockMaster;
 import com.stockswipe.model.StockPrice;
 import com.stockswipe.repository.StockMasterRepository;
@@ -7,22 +8,20 @@ import com.stockswipe.repository.StockPriceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -31,7 +30,23 @@ public class StockApiService {
     
     private final StockMasterRepository stockMasterRepository;
     private final StockPriceRepository stockPriceRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockPriceXmlParser stockPriceXmlParser;
+    private final ExternalDependencies externalDependencies;
+    private final IngestExecutor ingestExecutor;
+    private final TradingCalendar tradingCalendar;
+    private final OutboundHttpClient outboundHttpClient;
+    
+    private static final int BULK_PAGE_SIZE = 1000;
+    
+    /**
+     * 하루치 일괄 수집 결과
+     *
+     * @param received        API에서 받은 관심 종목 수 (0이면 휴장일이거나 아직 공개되지 않음)
+     * @param changedStockIds 실제로 INSERT/UPDATE된 종목 (값이 그대로인 종목은 제외)
+     */
+    public record MarketDayResult(int received, Set<String> changedStockIds) {
+    }
     
     @Value("${stock.api.key}")
     private String apiKey;
@@ -41,46 +56,101 @@ public class StockApiService {
     
     /**
      * 모든 종목의 데이터를 API로부터 가져와서 업데이트
+     * - 시장 전체 시세를 페이지 단위로 일괄 조회 (종목별 호출 없음)
+     * - 기준일자는 직전 거래일 (주말/휴장일 제외)
+     *
+     * @return 받은 종목 수 (값이 바뀐 종목만 변경 이벤트 발행)
      */
-    public void updateAllStocks() {
-        List<StockMaster> stockMasters = stockMasterRepository.findAll();
-        log.info("📊 총 {}개 종목의 데이터를 가져옵니다...", stockMasters.size());
-        
-        int successCount = 0;
-        int failCount = 0;
+    public int updateAllStocks() {
+        String basDt = tradingCalendar.previousTradingDay(LocalDate.now()).format(TradingCalendar.BAS_DT_FORMAT);
+        int updated = updateAllStocksBulk(basDt);
+        if (updated == 0) {
+            log.warn("⚠️ {} 기준 시세 데이터가 없습니다 (휴장일이거나 아직 공개되지 않음)", basDt);
+        }
+        return updated;
+    }
+    
+    /**
+     * 특정 기준일자의 시장 전체 시세를 일괄 수집하고 변경 이벤트 발행
+     *
+     * - 조회/저장 실패는 그대로 예외 (작업 실행 시 FAILED로 기록)
+     *
+     * @return 받은 종목 수
+     */
+    public int updateAllStocksBulk(String basDt) {
+        MarketDayResult result = ingestMarketDay(basDt, loadStockMasters());
+        if (!result.changedStockIds().isEmpty()) {
+            eventPublisher.publishEvent(new StockDataChangedEvent(result.changedStockIds()));
+        }
+        return result.received();
+    }
+    
+    /**
+     * stockId → StockMaster (일괄 수집 시 srtnCd 매칭용)
+     */
+    public Map<String, StockMaster> loadStockMasters() {
+        Map<String, StockMaster> stockMasters = new HashMap<>();
+        for (StockMaster stockMaster : stockMasterRepository.findAll()) {
+            stockMasters.put(stockMaster.getStockId(), stockMaster);
+        }
+        return stockMasters;
+    }
+    
+    /**
+     * 특정 기준일자의 시장 전체 시세를 일괄 수집 (이벤트 발행 없음)
+     * - numOfRows를 크게 잡아 몇 번의 페이지 요청으로 전체 종목 조회
+     * - srtnCd(단축코드)로 StockMaster와 메모리에서 매칭
+     * - 한 페이지라도 실패하면 저장하지 않고 예외 (업서트이므로 다시 실행하면 됨)
+     *
+     * @return 받은 종목 수와 값이 바뀐 종목 (휴장일이면 받은 종목 0)
+     */
+    public MarketDayResult ingestMarketDay(String basDt, Map<String, StockMaster> stockMasters) {
+        log.info("📊 {} 기준 시장 전체 시세를 가져옵니다 (대상 {}개 종목)...", basDt, stockMasters.size());
         
-        for (int i = 0; i < stockMasters.size(); i++) {
-            StockMaster stockMaster = stockMasters.get(i);
-            try {
-                // stockId로 업데이트 (각 업데이트마다 별도 트랜잭션)
-                boolean success = updateStockDataByStockId(stockMaster.getStockId());
-                if (success) {
-                    successCount++;
-                    log.info("✅ [{}/{}] {} ({}) 업데이트 완료", 
-                            i + 1, stockMasters.size(), stockMaster.getName(), stockMaster.getStockId());
-                } else {
-                    failCount++;
-                    log.warn("⚠️ [{}/{}] {} ({}) 데이터 없음", 
-                            i + 1, stockMasters.size(), stockMaster.getName(), stockMaster.getStockId());
-                }
-                
-                // API 호출 제한 방지 (초당 10건)
-                Thread.sleep(100);
-                
-            } catch (Exception e) {
-                failCount++;
-                log.error("❌ [{}/{}] {} ({}) 업데이트 실패: {}", 
-                        i + 1, stockMasters.size(), stockMaster.getName(), stockMaster.getStockId(), e.getMessage());
+        // 1. 첫 페이지로 totalCount 확인 후 나머지 페이지는 병렬 조회 → 관심 종목만 추림
+        Map<String, StockPriceItem> items = new ConcurrentHashMap<>();
+        Consumer<StockPriceItem> collector = item -> {
+            String srtnCd = normalizeSrtnCd(item.getSrtnCd());
+            if (srtnCd != null && stockMasters.containsKey(srtnCd)) {
+                items.put(srtnCd, item);
             }
+        };
+        int totalCount = fetchPage(basDt, 1, collector);
+        int pageCount = (totalCount + BULK_PAGE_SIZE - 1) / BULK_PAGE_SIZE;
+        if (pageCount > 1) {
+            ingestExecutor.map(IntStream.rangeClosed(2, pageCount).boxed().toList(),
+                    pageNo -> fetchPage(basDt, pageNo, collector));
+        }
+        log.debug("{} 시세 {}페이지 조회 완료 (전체 {}건)", basDt, pageCount, totalCount);
+        
+        if (items.isEmpty()) {
+            return new MarketDayResult(0, Set.of());
         }
         
-        log.info("🎉 업데이트 완료! 성공: {}, 실패: {}", successCount, failCount);
+        // 2. ON CONFLICT 배치 업서트 (기존 행 조회 없음)
+        List<StockPrice> prices = new ArrayList<>(items.size());
+        items.forEach((srtnCd, item) -> {
+            StockPrice stockPrice = new StockPrice(stockMasters.get(srtnCd), basDt);
+            applyItem(stockPrice, item);
+            prices.add(stockPrice);
+        });
+        long startedAt = System.nanoTime();
+        Set<Long> written = stockPriceRepository.upsertAll(prices);
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        Set<String> changedStockIds = prices.stream()
+                .filter(price -> written.contains(price.getStockMaster().getId()))
+                .map(price -> price.getStockMaster().getStockId())
+                .collect(Collectors.toUnmodifiableSet());
+        
+        log.info("🎉 {} 시세 일괄 업데이트 완료! 수신: {}개 종목, 변경: {}개 ({}ms, {}건/초), 미수신: {}개 종목",
+                basDt, prices.size(), changedStockIds.size(), elapsedMs, prices.size() * 1000L / elapsedMs,
+                stockMasters.size() - items.size());
+        return new MarketDayResult(prices.size(), changedStockIds);
     }
     
     /**
-     * stockId로 종목을 조회하여 업데이트 (트랜잭션 보장)
+     * stockId로 종목을 조회하여 업데이트
      */
-    @Transactional
     public boolean updateStockDataByStockId(String stockId) {
         StockMaster stockMaster = stockMasterRepository.findByStockId(stockId)
                 .orElseThrow(() -> new RuntimeException("StockMaster not found: " + stockId));
@@ -91,114 +161,98 @@ public class StockApiService {
      * 개별 종목 데이터 업데이트 (INSERT or UPDATE)
      * - 같은 종목의 같은 날짜: UPDATE
      * - 같은 종목의 다른 날짜: INSERT
+     * - API 호출 실패는 예외로 전달 (재시도/서킷 브레이커는 ExternalDependency에서 처리)
+     * - 트랜잭션은 upsertAll에서만 열림 (API 호출 동안 커넥션을 잡지 않음)
+     *
+     * @return 해당 날짜 시세가 없으면 false
      */
-    @Transactional
     public boolean updateStockData(StockMaster stockMaster) {
-        try {
-            // 어제 날짜 계산 (SYSDATE-1)
-            LocalDate yesterday = LocalDate.now().minusDays(1);
-            String basDt = yesterday.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            
-            // URL을 직접 구성하여 인코딩 문제 방지
-            String url = baseUrl + "/getStockPriceInfo?serviceKey=" + apiKey + 
-                        "&numOfRows=1&pageNo=1&likeSrtnCd=" + stockMaster.getStockId() +
-                        "&basDt=" + basDt;
-            
-            log.debug("API 요청 URL ({}): basDt={}", stockMaster.getStockId(), basDt);
-            
-            // URI 객체로 변환 (재인코딩 방지)
-            URI uri = URI.create(url);
-            
-            String response = restTemplate.getForObject(uri, String.class);
-            
-            if (response == null || response.isEmpty()) {
-                return false;
-            }
-            
-            // XML 파싱
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(new ByteArrayInputStream(response.getBytes("UTF-8")));
-            
-            NodeList items = doc.getElementsByTagName("item");
-            if (items.getLength() == 0) {
-                return false;
-            }
-            
-            Element item = (Element) items.item(0);
-            
-            // 같은 종목의 같은 날짜 데이터가 있는지 확인
-            Optional<StockPrice> existingPrice = stockPriceRepository
-                    .findByStockMasterAndBasDt(stockMaster, basDt);
-            
-            StockPrice stockPrice;
-            if (existingPrice.isPresent()) {
-                // UPDATE: 이미 존재하면 업데이트
-                stockPrice = existingPrice.get();
-                log.debug("UPDATE: {} ({}) 기존 데이터 업데이트", stockMaster.getName(), basDt);
-            } else {
-                // INSERT: 새로운 날짜 데이터 생성
-                stockPrice = new StockPrice(stockMaster, basDt);
-                log.debug("INSERT: {} ({}) 새 데이터 생성", stockMaster.getName(), basDt);
-            }
-            
-            // 데이터 설정
-            stockPrice.setIsinCd(getElementText(item, "isinCd"));
-            stockPrice.setMrktCtg(getElementText(item, "mrktCtg"));
-            stockPrice.setClpr(getElementLong(item, "clpr"));
-            stockPrice.setVs(getElementLong(item, "vs"));
-            stockPrice.setFltRt(getElementDouble(item, "fltRt"));
-            stockPrice.setMkp(getElementLong(item, "mkp"));
-            stockPrice.setHipr(getElementLong(item, "hipr"));
-            stockPrice.setLopr(getElementLong(item, "lopr"));
-            stockPrice.setTrqu(getElementLong(item, "trqu"));
-            stockPrice.setTrPrc(getElementLong(item, "trPrc"));
-            stockPrice.setLstgStCnt(getElementLong(item, "lstgStCnt"));
-            stockPrice.setMrktTotAmt(getElementLong(item, "mrktTotAmt"));
-            
-            stockPriceRepository.save(stockPrice);
-            return true;
-            
-        } catch (Exception e) {
-            log.error("종목 {} 데이터 업데이트 실패: {}", stockMaster.getStockId(), e.getMessage());
+        // 직전 거래일 (주말/휴장일 제외)
+        String basDt = tradingCalendar.previousTradingDay(LocalDate.now()).format(TradingCalendar.BAS_DT_FORMAT);
+        
+        // URL을 직접 구성하여 인코딩 문제 방지
+        String url = baseUrl + "/getStockPriceInfo?serviceKey=" + apiKey + 
+                    "&numOfRows=1&pageNo=1&likeSrtnCd=" + stockMaster.getStockId() +
+                    "&basDt=" + basDt;
+        
+        log.debug("API 요청 URL ({}): basDt={}", stockMaster.getStockId(), basDt);
+        
+        // URI 객체로 변환 (재인코딩 방지)
+        URI uri = URI.create(url);
+        
+        List<StockPriceItem> items = new ArrayList<>(1);
+        fetchItems(uri, items::add);
+        if (items.isEmpty()) {
             return false;
         }
+        
+        // 데이터 설정 후 업서트 (같은 날짜가 있으면 UPDATE, 없으면 INSERT)
+        StockPrice stockPrice = new StockPrice(stockMaster, basDt);
+        applyItem(stockPrice, items.get(0));
+        boolean changed = !stockPriceRepository.upsertAll(List.of(stockPrice)).isEmpty();
+        log.debug("UPSERT: {} ({}) {}", stockMaster.getName(), basDt, changed ? "변경" : "변경 없음");
+        
+        if (changed) {
+            eventPublisher.publishEvent(StockDataChangedEvent.of(stockMaster.getStockId()));
+        }
+        return true;
     }
     
-    private String getElementText(Element parent, String tagName) {
+    private int fetchPage(String basDt, int pageNo, Consumer<StockPriceItem> sink) {
+        String url = baseUrl + "/getStockPriceInfo?serviceKey=" + apiKey +
+                    "&numOfRows=" + BULK_PAGE_SIZE + "&pageNo=" + pageNo + "&basDt=" + basDt;
+        return fetchItems(URI.create(url), sink);
+    }
+    
+    /**
+     * API 호출 후 응답 스트림을 바로 파싱해서 item마다 sink 호출
+     * - data.go.kr 호출 제한/재시도/서킷 브레이커 적용
+     * - 응답 XML이 잘못된 경우 IllegalStateException (재시도하지 않음)
+     *
+     * @return 응답의 totalCount
+     */
+    private int fetchItems(URI uri, Consumer<StockPriceItem> sink) {
         try {
-            NodeList nodeList = parent.getElementsByTagName(tagName);
-            if (nodeList.getLength() > 0) {
-                return nodeList.item(0).getTextContent();
-            }
-        } catch (Exception e) {
-            // 무시
+            return externalDependencies.stockApi().execute(() -> {
+                try (OutboundHttpClient.Response response = outboundHttpClient.get(OutboundHttpClient.Host.STOCK_API, uri)) {
+                    return stockPriceXmlParser.parse(response.body(), sink);
+                } catch (XMLStreamException e) {
+                    // 본문 읽기 오류만 재시도 - 잘못된 응답은 다시 받아도 같으므로 바로 실패 (서킷 실패로 세지 않음)
+                    IOException readFailure = RetryPolicy.findIOException(e);
+                    if (readFailure != null) {
+                        throw readFailure;
+                    }
+                    throw new IllegalStateException("시세 XML 파싱 실패: " + e.getMessage(), e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("시세 API 호출 실패: " + e.getMessage(), e);
         }
-        return null;
     }
     
-    private Long getElementLong(Element parent, String tagName) {
-        String text = getElementText(parent, tagName);
-        if (text != null && !text.isEmpty()) {
-            try {
-                return Long.parseLong(text);
-            } catch (NumberFormatException e) {
-                // 무시
-            }
+    /**
+     * 단축코드 정규화 (일부 응답은 "A005930" 형식)
+     */
+    private String normalizeSrtnCd(String srtnCd) {
+        if (srtnCd == null) {
+            return null;
         }
-        return null;
+        String code = srtnCd.trim();
+        return code.length() == 7 && code.charAt(0) == 'A' ? code.substring(1) : code;
     }
     
-    private Double getElementDouble(Element parent, String tagName) {
-        String text = getElementText(parent, tagName);
-        if (text != null && !text.isEmpty()) {
-            try {
-                return Double.parseDouble(text);
-            } catch (NumberFormatException e) {
-                // 무시
-            }
-        }
-        return null;
+    private void applyItem(StockPrice stockPrice, StockPriceItem item) {
+        stockPrice.setIsinCd(item.getIsinCd());
+        stockPrice.setMrktCtg(item.getMrktCtg());
+        stockPrice.setClpr(item.getClpr());
+        stockPrice.setVs(item.getVs());
+        stockPrice.setFltRt(item.getFltRt());
+        stockPrice.setMkp(item.getMkp());
+        stockPrice.setHipr(item.getHipr());
+        stockPrice.setLopr(item.getLopr());
+        stockPrice.setTrqu(item.getTrqu());
+        stockPrice.setTrPrc(item.getTrPrc());
+        stockPrice.setLstgStCnt(item.getLstgStCnt());
+        stockPrice.setMrktTotAmt(item.getMrktTotAmt());
     }
 }
-
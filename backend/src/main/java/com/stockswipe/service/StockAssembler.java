@@ -0,0 +1,224 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.CategoryDTO;
+import com.stockswipe.dto.ChartDataDTO;
+import com.stockswipe.dto.NewsDTO;
+import com.stockswipe.dto.StockDTO;
+import com.stockswipe.dto.StockFields;
+import com.stockswipe.model.*;
+import com.stockswipe.repository.ChartDataRepository;
+import com.stockswipe.repository.NewsRepository;
+import com.stockswipe.repository.StockMasterRepository;
+import com.stockswipe.repository.StockPriceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * StockDTO 일괄 조립기
+ * - 종목(+카테고리), 최신 주가, 키워드, 차트, 뉴스를 각각 한 번의 쿼리로 조회
+ * - 메모리에서 stockMasterId 기준으로 합쳐서 DTO 생성
+ * - 종목 수와 관계없이 쿼리 수는 5개로 고정 (N+1 제거)
+ * - StockFields로 필요 없는 연관 데이터 조회 생략
+ */
+@Component
+@RequiredArgsConstructor
+public class StockAssembler {
+
+    private final StockMasterRepository stockMasterRepository;
+    private final StockPriceRepository stockPriceRepository;
+    private final ChartDataRepository chartDataRepository;
+    private final NewsRepository newsRepository;
+
+    /**
+     * 전체 종목 조립 (IN 절 없이 테이블 단위로 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<StockDTO> assembleAll() {
+        return assembleAll(StockFields.ALL);
+    }
+
+    /**
+     * 전체 종목 조립 - 선택한 필드에 필요한 연관 데이터만 조회
+     */
+    @Transactional(readOnly = true)
+    public List<StockDTO> assembleAll(StockFields fields) {
+        List<StockMaster> stockMasters = stockMasterRepository.findAllWithCategory();
+        if (stockMasters.isEmpty()) {
+            return List.of();
+        }
+        return stitch(
+                stockMasters,
+                fields.needsPrice() ? stockPriceRepository.findAllLatestPrices() : null,
+                fields.needsKeywords() ? stockMasterRepository.findAllKeywords() : null,
+                fields.needsChartData() ? chartDataRepository.findAllByOrderByIdAsc() : null,
+                fields.needsNews() ? newsRepository.findAllByOrderByIdAsc() : null
+        );
+    }
+
+    /**
+     * 지정한 종목만 조립
+     */
+    @Transactional(readOnly = true)
+    public List<StockDTO> assembleByStockIds(Collection<String> stockIds) {
+        return assembleByStockIds(stockIds, StockFields.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StockDTO> assembleByStockIds(Collection<String> stockIds, StockFields fields) {
+        if (stockIds.isEmpty()) {
+            return List.of();
+        }
+        return assemble(stockMasterRepository.findByStockIdsWithCategory(stockIds), fields);
+    }
+
+    /**
+     * 지정한 카테고리의 종목만 조립
+     */
+    @Transactional(readOnly = true)
+    public List<StockDTO> assembleByCategoryCodes(Collection<String> categoryCodes, StockFields fields) {
+        if (categoryCodes.isEmpty()) {
+            return List.of();
+        }
+        return assemble(stockMasterRepository.findByCategoryCodesWithCategory(categoryCodes), fields);
+    }
+
+    private List<StockDTO> assemble(List<StockMaster> stockMasters, StockFields fields) {
+        if (stockMasters.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = stockMasters.stream().map(StockMaster::getId).toList();
+        return stitch(
+                stockMasters,
+                fields.needsPrice() ? stockPriceRepository.findLatestByStockMasterIds(ids) : null,
+                fields.needsKeywords() ? stockMasterRepository.findKeywordsByIds(ids) : null,
+                fields.needsChartData() ? chartDataRepository.findByStockMasterIds(ids) : null,
+                fields.needsNews() ? newsRepository.findByStockMasterIds(ids) : null
+        );
+    }
+
+    /**
+     * 조회 결과를 종목별로 합침 (null인 연관 데이터는 조회하지 않은 것으로 보고 DTO에도 null)
+     */
+    private List<StockDTO> stitch(List<StockMaster> stockMasters,
+                                  List<StockPrice> latestPrices,
+                                  List<Object[]> keywordRows,
+                                  List<ChartData> chartData,
+                                  List<News> news) {
+        // stockMasterId 기준으로 그룹핑 (프록시의 getId()는 추가 쿼리를 발생시키지 않음)
+        Map<Long, StockPrice> priceByMaster = new HashMap<>();
+        if (latestPrices != null) {
+            for (StockPrice price : latestPrices) {
+                priceByMaster.put(price.getStockMaster().getId(), price);
+            }
+        }
+
+        Map<Long, List<String>> keywordsByMaster = new HashMap<>();
+        if (keywordRows != null) {
+            for (Object[] row : keywordRows) {
+                keywordsByMaster.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        Map<Long, List<ChartDataDTO>> chartByMaster = new HashMap<>();
+        if (chartData != null) {
+            for (ChartData cd : chartData) {
+                chartByMaster.computeIfAbsent(cd.getStockMaster().getId(), k -> new ArrayList<>())
+                        .add(new ChartDataDTO(cd.getTime(), cd.getPrice()));
+            }
+        }
+
+        Map<Long, List<NewsDTO>> newsByMaster = new HashMap<>();
+        Map<Long, LocalDateTime> latestNewsByMaster = new HashMap<>();
+        if (news != null) {
+            for (News n : news) {
+                Long masterId = n.getStockMaster().getId();
+                newsByMaster.computeIfAbsent(masterId, k -> new ArrayList<>()).add(convertNewsToDTO(n));
+                if (n.getCreatedAt() != null) {
+                    latestNewsByMaster.merge(masterId, n.getCreatedAt(), StockAssembler::latest);
+                }
+            }
+        }
+
+        // 카테고리 DTO는 카테고리당 1개만 생성
+        Map<Long, CategoryDTO> categoryDTOs = new HashMap<>();
+
+        List<StockDTO> result = new ArrayList<>(stockMasters.size());
+        for (StockMaster stockMaster : stockMasters) {
+            Long id = stockMaster.getId();
+            StockDTO dto = new StockDTO();
+            dto.setId(stockMaster.getStockId());
+            dto.setName(stockMaster.getName());
+
+            Category category = stockMaster.getCategory();
+            if (category != null) {
+                dto.setCategory(categoryDTOs.computeIfAbsent(category.getId(),
+                        k -> new CategoryDTO(category.getId(), category.getCode(), category.getName())));
+            }
+
+            StockPrice price = priceByMaster.get(id);
+            if (price != null) {
+                applyPrice(dto, price);
+            }
+
+            LocalDateTime lastModified = latest(stockMaster.getUpdatedAt(), latestNewsByMaster.get(id));
+            dto.setLastModified(latest(lastModified, price != null ? price.getUpdatedAt() : null));
+
+            // OpenAI 생성 데이터
+            dto.setDescription(stockMaster.getDescription());
+            dto.setBusiness(stockMaster.getBusiness());
+
+            // 관계 데이터
+            if (keywordRows != null) {
+                dto.setKeywords(keywordsByMaster.getOrDefault(id, new ArrayList<>()));
+            }
+            if (chartData != null) {
+                dto.setChartData(chartByMaster.getOrDefault(id, new ArrayList<>()));
+            }
+            if (news != null) {
+                dto.setNews(newsByMaster.getOrDefault(id, new ArrayList<>()));
+            }
+
+            result.add(dto);
+        }
+        return result;
+    }
+
+    private void applyPrice(StockDTO dto, StockPrice price) {
+        dto.setBasDt(price.getBasDt());
+        dto.setIsinCd(price.getIsinCd());
+        dto.setMrktCtg(price.getMrktCtg());
+        dto.setClpr(price.getClpr());
+        dto.setVs(price.getVs());
+        dto.setFltRt(price.getFltRt());
+        dto.setMkp(price.getMkp());
+        dto.setHipr(price.getHipr());
+        dto.setLopr(price.getLopr());
+        dto.setTrqu(price.getTrqu());
+        dto.setTrPrc(price.getTrPrc());
+        dto.setLstgStCnt(price.getLstgStCnt());
+        dto.setMrktTotAmt(price.getMrktTotAmt());
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    private NewsDTO convertNewsToDTO(News n) {
+        return new NewsDTO(
+                n.getNewsId(),
+                n.getTitle(),
+                n.getSummary(),
+                n.getLink(),
+                n.getSource(),
+                n.getSentiment(),
+                n.getSentimentScore()
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.stockswipe.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 종목 변경 로그 (델타 동기화용)
+ * - 스냅샷이 부분 갱신될 때마다 (버전, 종목코드, 삭제 여부) 기록
+ * - 최근 capacity개만 보관, 그보다 오래된 버전을 요청하면 전체 동기화로 안내
+ * - 전체 재조립 시 초기화 (그 이전 버전은 모두 전체 동기화)
+ */
+@Component
+public class StockChangeLog {
+
+    private record Change(long version, String stockId, boolean removed) {
+    }
+
+    /**
+     * since 이후 변경 내역
+     *
+     * @param changedStockIds 변경(추가 포함)된 종목코드
+     * @param removedStockIds 삭제된 종목코드
+     */
+    public record Delta(Set<String> changedStockIds, Set<String> removedStockIds) {
+    }
+
+    private final int capacity;
+    private final ArrayDeque<Change> changes = new ArrayDeque<>();
+    private long floorVersion;      // 이 버전 이후의 변경은 빠짐없이 보관 중
+
+    public StockChangeLog(@Value("${stock.change-log.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 전체 재조립 시 호출 - 이전 기록 폐기
+     */
+    public synchronized void reset(long version) {
+        changes.clear();
+        floorVersion = version;
+    }
+
+    public synchronized void record(long version, Collection<String> changedStockIds, Collection<String> removedStockIds) {
+        for (String stockId : changedStockIds) {
+            changes.addLast(new Change(version, stockId, false));
+        }
+        for (String stockId : removedStockIds) {
+            changes.addLast(new Change(version, stockId, true));
+        }
+        while (changes.size() > capacity) {
+            floorVersion = changes.removeFirst().version();
+        }
+    }
+
+    /**
+     * since 초과 ~ upTo 이하 버전의 변경 내역
+     * - 보관 범위를 벗어난 since(너무 오래됨 / 재시작 이전 / 미래 버전)는 empty → 전체 동기화 필요
+     */
+    public synchronized Optional<Delta> since(long since, long upTo) {
+        if (since < floorVersion || since > upTo) {
+            return Optional.empty();
+        }
+        // 같은 종목은 마지막 기록 기준
+        Map<String, Boolean> latest = new LinkedHashMap<>();
+        Iterator<Change> it = changes.descendingIterator();
+        while (it.hasNext()) {
+            Change change = it.next();
+            if (change.version() <= since) {
+                break;
+            }
+            if (change.version() <= upTo) {
+                latest.putIfAbsent(change.stockId(), change.removed());
+            }
+        }
+
+        Set<String> changed = new LinkedHashSet<>();
+        Set<String> removed = new LinkedHashSet<>();
+        latest.forEach((stockId, isRemoved) -> (isRemoved ? removed : changed).add(stockId));
+        return Optional.of(new Delta(changed, removed));
+    }
+}
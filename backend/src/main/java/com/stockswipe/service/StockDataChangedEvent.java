@@ -0,0 +1,15 @@
+package com.stockswipe.service;
+
+import java.util.Set;
+
+/**
+ * 종목 데이터 변경 이벤트
+ * - 주가 수집, 뉴스 크롤링, OpenAI 정보 생성 후 발행
+ * - StockSnapshotCache가 커밋 이후 해당 종목만 다시 조립
+ */
+public record StockDataChangedEvent(Set<String> stockIds) {
+
+    public static StockDataChangedEvent of(String stockId) {
+        return new StockDataChangedEvent(Set.of(stockId));
+    }
+}
@@ -0,0 +1,173 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.StockPriceItem;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 주식시세정보 API XML 응답 스트리밍 파서 (StAX)
+ * - HTTP 응답 스트림을 그대로 읽음 (String/DOM 생성 없음)
+ * - <item>을 하나 읽을 때마다 StockPriceItem으로 넘김
+ * - 숫자 필드는 문자 버퍼에서 바로 파싱
+ */
+@Component
+public class StockPriceXmlParser {
+
+    private static final String SUCCESS_CODE = "00";
+
+    /**
+     * 설정이 끝난 XMLInputFactory는 스레드 안전하므로 하나만 생성해서 공유
+     */
+    private static final XMLInputFactory XML_INPUT_FACTORY = createFactory();
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 차단 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        // 텍스트를 한 번의 CHARACTERS 이벤트로 받기 위해 병합
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * 응답 스트림을 파싱해서 item마다 sink 호출
+     *
+     * @return 응답의 totalCount (없으면 0)
+     */
+    public int parse(InputStream in, Consumer<StockPriceItem> sink) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            int totalCount = 0;
+            String resultCode = null;
+            StockPriceItem item = null;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (item != null) {
+                        readField(reader, name, item);
+                        continue;
+                    }
+                    switch (name) {
+                        case "item" -> item = new StockPriceItem();
+                        case "totalCount" -> {
+                            Long value = readLong(reader);
+                            totalCount = value != null ? value.intValue() : 0;
+                        }
+                        case "resultCode" -> resultCode = readText(reader);
+                        case "resultMsg" -> {
+                            String resultMsg = readText(reader);
+                            if (resultCode != null && !SUCCESS_CODE.equals(resultCode)) {
+                                throw new RuntimeException("주가 API 오류: " + resultCode + " " + resultMsg);
+                            }
+                        }
+                        default -> {
+                            // 그 외 헤더/바디 요소는 무시
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT
+                        && item != null && "item".equals(reader.getLocalName())) {
+                    sink.accept(item);
+                    item = null;
+                }
+            }
+            return totalCount;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void readField(XMLStreamReader reader, String name, StockPriceItem item) throws XMLStreamException {
+        switch (name) {
+            case "basDt" -> item.setBasDt(readText(reader));
+            case "srtnCd" -> item.setSrtnCd(readText(reader));
+            case "isinCd" -> item.setIsinCd(readText(reader));
+            case "itmsNm" -> item.setItmsNm(readText(reader));
+            case "mrktCtg" -> item.setMrktCtg(readText(reader));
+            case "clpr" -> item.setClpr(readLong(reader));
+            case "vs" -> item.setVs(readLong(reader));
+            case "fltRt" -> item.setFltRt(readDouble(reader));
+            case "mkp" -> item.setMkp(readLong(reader));
+            case "hipr" -> item.setHipr(readLong(reader));
+            case "lopr" -> item.setLopr(readLong(reader));
+            case "trqu" -> item.setTrqu(readLong(reader));
+            case "trPrc" -> item.setTrPrc(readLong(reader));
+            case "lstgStCnt" -> item.setLstgStCnt(readLong(reader));
+            case "mrktTotAmt" -> item.setMrktTotAmt(readLong(reader));
+            default -> {
+                // 사용하지 않는 필드는 건너뜀
+            }
+        }
+    }
+
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = reader.getElementText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * 정수 필드를 문자 버퍼에서 바로 파싱 (형식이 맞지 않으면 null)
+     */
+    private Long readLong(XMLStreamReader reader) throws XMLStreamException {
+        if (reader.next() != XMLStreamConstants.CHARACTERS) {
+            return null; // 빈 요소 - 이미 END_ELEMENT
+        }
+        // 문자 버퍼는 다음 이벤트로 넘어가면 재사용되므로 먼저 파싱
+        Long value = parseLong(reader.getTextCharacters(), reader.getTextStart(),
+                reader.getTextStart() + reader.getTextLength());
+        skipToEndElement(reader);
+        return value;
+    }
+
+    private static Long parseLong(char[] chars, int start, int end) {
+        while (start < end && Character.isWhitespace(chars[start])) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(chars[end - 1])) {
+            end--;
+        }
+        boolean negative = start < end && chars[start] == '-';
+        if (negative || (start < end && chars[start] == '+')) {
+            start++;
+        }
+        // long 범위를 넘지 않도록 18자리까지만 허용
+        if (start == end || end - start > 18) {
+            return null;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private Double readDouble(XMLStreamReader reader) throws XMLStreamException {
+        String text = readText(reader);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void skipToEndElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+            // 주석 등은 건너뜀
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.stockswipe.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화/압축 완료된 응답 본문 캐시
+ * - 전체 목록, 카테고리별 목록의 JSON/CBOR 바이트와 gzip 바이트를 보관
+ * - 스냅샷(카테고리) 버전이 바뀐 뒤 처음 요청될 때만 다시 직렬화
+ * - 스냅샷 준비 전에는 empty (일반 직렬화 경로 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockResponseCache {
+
+    public enum Format {
+        JSON, CBOR
+    }
+
+    /**
+     * 직렬화된 본문
+     *
+     * @param version 직렬화 시점의 스냅샷(카테고리) 버전
+     */
+    public record CachedBody(long version, byte[] identity, byte[] gzip) {
+    }
+
+    private final StockSnapshotCache stockSnapshotCache;
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+
+    public Optional<CachedBody> allStocks(Format format) {
+        return stockSnapshotCache.peek()
+                .map(snapshot -> lookup("stocks", format, snapshot.getVersion(), snapshot.getStocks()));
+    }
+
+    /**
+     * 카테고리별 목록 (종목이 없는 카테고리 코드는 캐시하지 않음)
+     */
+    public Optional<CachedBody> category(String categoryCode, Format format) {
+        return stockSnapshotCache.peek()
+                .filter(snapshot -> !snapshot.findByCategory(categoryCode).isEmpty())
+                .map(snapshot -> lookup("category:" + categoryCode, format,
+                        snapshot.categoryVersion(categoryCode), snapshot.findByCategory(categoryCode)));
+    }
+
+    private CachedBody lookup(String resource, Format format, long version, List<?> body) {
+        String key = resource + "|" + format;
+        CachedBody cached = bodies.get(key);
+        if (cached != null && cached.version() >= version) {
+            return cached;
+        }
+        // 같은 키는 한 번만 직렬화, 더 새 버전이 이미 있으면 그대로 사용
+        return bodies.compute(key, (k, existing) ->
+                existing != null && existing.version() >= version ? existing : serialize(key, format, version, body));
+    }
+
+    private CachedBody serialize(String key, Format format, long version, List<?> body) {
+        try {
+            ObjectMapper mapper = format == Format.CBOR ? cborConverter.getObjectMapper() : objectMapper;
+            byte[] bytes = mapper.writeValueAsBytes(body);
+            byte[] gzip = gzip(bytes);
+            log.debug("응답 본문 직렬화 {} v{}: {} bytes (gzip {} bytes)", key, version, bytes.length, gzip.length);
+            return new CachedBody(version, bytes, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패: " + key, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(512, data.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -3,47 +3,160 @@ package com.stockswipe.service;
 import com.stockswipe.dto.*;
 import com.stockswipe.model.*;
 import com.stockswipe.repository.CategoryRepository;
-import com.stockswipe.repository.StockMasterRepository;
-import com.stockswipe.repository.StockPriceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StockService {
     
-    private final StockMasterRepository stockMasterRepository;
-    private final StockPriceRepository stockPriceRepository;
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    
+    private final StockSnapshotCache stockSnapshotCache;
+    private final StockAssembler stockAssembler;
+    private final StockChangeLog stockChangeLog;
     private final CategoryRepository categoryRepository;
     
-    @Transactional(readOnly = true)
-    public List<StockDTO> getAllStocks() {
-        List<StockMaster> stockMasters = stockMasterRepository.findAll();
-        return stockMasters.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * 전체 종목
+     * - 스냅샷이 있으면 그대로 반환 (필드 제한은 JSON 출력 단계에서 적용)
+     * - 스냅샷 준비 전에는 선택한 필드에 필요한 데이터만 DB에서 조립
+     */
+    public List<StockDTO> getAllStocks(StockFields fields) {
+        return stockSnapshotCache.peek()
+                .map(StockSnapshot::getStocks)
+                .orElseGet(() -> stockAssembler.assembleAll(fields));
     }
     
-    @Transactional(readOnly = true)
-    public StockDTO getStockById(String stockId) {
-        StockMaster stockMaster = stockMasterRepository.findByStockId(stockId)
+    public StockDTO getStockById(String stockId, StockFields fields) {
+        return stockSnapshotCache.peek()
+                .map(snapshot -> snapshot.findById(stockId))
+                .orElseGet(() -> stockAssembler.assembleByStockIds(List.of(stockId), fields).stream().findFirst())
                 .orElseThrow(() -> new RuntimeException("Stock not found: " + stockId));
-        return convertToDTO(stockMaster);
     }
     
-    @Transactional(readOnly = true)
-    public List<StockDTO> getStocksByCategory(String categoryCode) {
-        return stockMasterRepository.findAll().stream()
-                .filter(stock -> stock.getCategory() != null && 
-                        stock.getCategory().getCode().equals(categoryCode))
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * 현재 스냅샷 버전 (데이터가 바뀔 때마다 증가)
+     */
+    public long getSnapshotVersion() {
+        return stockSnapshotCache.get().getVersion();
+    }
+    
+    /**
+     * since 버전 이후 변경된 종목만 조회 (델타 동기화)
+     * - 변경 로그 보관 범위를 벗어나면 전체 종목을 fullResync=true로 반환
+     *
+     * @param since 클라이언트가 마지막으로 받은 version (처음이면 0)
+     */
+    public StockChangesDTO getChangesSince(long since) {
+        StockSnapshot snapshot = stockSnapshotCache.get();
+        return stockChangeLog.since(since, snapshot.getVersion())
+                .map(delta -> {
+                    List<StockDTO> changed = new ArrayList<>(delta.changedStockIds().size());
+                    List<String> removed = new ArrayList<>(delta.removedStockIds());
+                    for (String stockId : delta.changedStockIds()) {
+                        // 로그 기록 직후 삭제된 경우 스냅샷에 없으면 삭제로 처리
+                        snapshot.findById(stockId).ifPresentOrElse(changed::add, () -> removed.add(stockId));
+                    }
+                    return new StockChangesDTO(snapshot.getVersion(), false, changed, removed);
+                })
+                .orElseGet(() -> new StockChangesDTO(snapshot.getVersion(), true, snapshot.getStocks(), List.of()));
+    }
+    
+    // ===== 조건부 GET 검증값 (스냅샷 버전 기반, 응답 본문 직렬화 없이 계산) =====
+    // 스냅샷 준비 전에는 empty → 검증 없이 항상 200
+    
+    public Optional<ResourceVersion> versionOfAllStocks(StockFields fields) {
+        return stockSnapshotCache.peek()
+                .map(snapshot -> new ResourceVersion(
+                        etag("stocks", snapshot.getVersion(), fields), snapshot.getLastModified()));
+    }
+    
+    public Optional<ResourceVersion> versionOfStock(String stockId, StockFields fields) {
+        return stockSnapshotCache.peek()
+                .flatMap(snapshot -> snapshot.findById(stockId)
+                        .map(stock -> new ResourceVersion(
+                                etag("stock-" + stockId, snapshot.stockVersion(stockId), fields),
+                                StockSnapshot.lastModifiedOf(stock))));
+    }
+    
+    public Optional<ResourceVersion> versionOfCategory(String categoryCode, StockFields fields) {
+        return stockSnapshotCache.peek()
+                .map(snapshot -> new ResourceVersion(
+                        etag("category-" + Integer.toHexString(categoryCode.hashCode()),
+                                snapshot.categoryVersion(categoryCode), fields),
+                        snapshot.categoryLastModified(categoryCode)));
+    }
+    
+    public Optional<ResourceVersion> versionOfFeed(String cursor, int limit, Collection<String> categoryCodes) {
+        String query = cursor + "|" + limit + "|" + String.join(",", categoryCodes);
+        return stockSnapshotCache.peek()
+                .map(snapshot -> new ResourceVersion(
+                        etag("feed-" + Integer.toHexString(query.hashCode()), snapshot.getVersion(), StockFields.ALL),
+                        snapshot.getLastModified()));
+    }
+    
+    private static String etag(String resource, long version, StockFields fields) {
+        String tag = resource + "-" + Long.toString(version, 36);
+        if (!fields.isAll()) {
+            tag += "-" + Integer.toHexString(fields.hashCode());
+        }
+        return "\"" + tag + "\"";
+    }
+    
+    /**
+     * 카테고리별 종목
+     * - 스냅샷의 카테고리 인덱스 사용
+     * - 스냅샷 준비 전에는 해당 카테고리만 DB에서 조회 (전체 조립을 기다리지 않음)
+     */
+    public List<StockDTO> getStocksByCategory(String categoryCode, StockFields fields) {
+        return stockSnapshotCache.peek()
+                .map(snapshot -> snapshot.findByCategory(categoryCode))
+                .orElseGet(() -> stockAssembler.assembleByCategoryCodes(List.of(categoryCode), fields));
+    }
+    
+    /**
+     * 여러 카테고리의 종목을 한 번에 조회
+     * - 스냅샷의 카테고리 인덱스를 이어붙임 (요청한 카테고리 순서)
+     * - 스냅샷 준비 전에는 IN 쿼리 한 번으로 조회
+     */
+    public List<StockDTO> getStocksByCategories(Collection<String> categoryCodes, StockFields fields) {
+        Set<String> codes = new LinkedHashSet<>(categoryCodes);
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        return stockSnapshotCache.peek()
+                .map(snapshot -> {
+                    List<StockDTO> result = new ArrayList<>();
+                    for (String code : codes) {
+                        result.addAll(snapshot.findByCategory(code));
+                    }
+                    return result;
+                })
+                .orElseGet(() -> stockAssembler.assembleByCategoryCodes(codes, fields));
+    }
+    
+    /**
+     * 스와이프 피드 (키셋 페이지네이션, 종목코드 오름차순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit 페이지 크기 (1 ~ 100)
+     * @param categoryCodes 카테고리 필터 (비어 있으면 전체)
+     */
+    public FeedPageDTO getFeed(String cursor, int limit, Collection<String> categoryCodes) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
+        StockSnapshot snapshot = stockSnapshotCache.get();
+        
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<FeedCardDTO> cards = snapshot.feedPage(cursor, pageSize + 1, new HashSet<>(categoryCodes));
+        boolean hasNext = cards.size() > pageSize;
+        List<FeedCardDTO> items = hasNext ? cards.subList(0, pageSize) : cards;
+        String nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        
+        return new FeedPageDTO(items, nextCursor, snapshot.getVersion());
     }
     
     public List<CategoryDTO> getCategories() {
@@ -59,64 +172,4 @@ public class StockService {
                 category.getName()
         );
     }
-    
-    private StockDTO convertToDTO(StockMaster stockMaster) {
-        StockDTO dto = new StockDTO();
-        dto.setId(stockMaster.getStockId());
-        dto.setName(stockMaster.getName());
-        
-        // Category
-        if (stockMaster.getCategory() != null) {
-            dto.setCategory(convertCategoryToDTO(stockMaster.getCategory()));
-        }
-        
-        // 최신 주가 정보 가져오기
-        Optional<StockPrice> latestPrice = stockPriceRepository.findLatestByStockMaster(stockMaster);
-        if (latestPrice.isPresent()) {
-            StockPrice price = latestPrice.get();
-            dto.setBasDt(price.getBasDt());
-            dto.setIsinCd(price.getIsinCd());
-            dto.setMrktCtg(price.getMrktCtg());
-            dto.setClpr(price.getClpr());
-            dto.setVs(price.getVs());
-            dto.setFltRt(price.getFltRt());
-            dto.setMkp(price.getMkp());
-            dto.setHipr(price.getHipr());
-            dto.setLopr(price.getLopr());
-            dto.setTrqu(price.getTrqu());
-            dto.setTrPrc(price.getTrPrc());
-            dto.setLstgStCnt(price.getLstgStCnt());
-            dto.setMrktTotAmt(price.getMrktTotAmt());
-        }
-        
-        // OpenAI 생성 데이터
-        dto.setDescription(stockMaster.getDescription());
-        dto.setBusiness(stockMaster.getBusiness());
-        
-        // 관계 데이터
-        dto.setKeywords(stockMaster.getKeywords());
-        
-        // Chart Data
-        List<ChartDataDTO> chartDataDTOs = stockMaster.getChartData().stream()
-                .map(cd -> new ChartDataDTO(cd.getTime(), cd.getPrice()))
-                .collect(Collectors.toList());
-        dto.setChartData(chartDataDTOs);
-        
-        // News
-        List<NewsDTO> newsDTOs = stockMaster.getNews().stream()
-                .map(n -> new NewsDTO(
-                        n.getNewsId(), 
-                        n.getTitle(), 
-                        n.getSummary(),
-                        n.getLink(),
-                        n.getSource(),
-                        n.getSentiment(),
-                        n.getSentimentScore()
-                ))
-                .collect(Collectors.toList());
-        dto.setNews(newsDTOs);
-        
-        return dto;
-    }
 }
-
@@ -0,0 +1,263 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.ChartDataDTO;
+import com.stockswipe.dto.FeedCardDTO;
+import com.stockswipe.dto.StockDTO;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 전체 종목 StockDTO 스냅샷 (불변)
+ * - 한 번 게시된 스냅샷과 그 안의 DTO는 수정하지 않음
+ * - 변경 시 새 스냅샷을 만들어 통째로 교체
+ */
+public final class StockSnapshot {
+
+    /** 피드 카드에 포함할 최근 차트 포인트 수 */
+    static final int FEED_CHART_POINTS = 5;
+
+    private final long version;
+    private final List<StockDTO> stocks;
+    private final Map<String, StockDTO> byId;
+    private final Map<String, List<StockDTO>> byCategory;
+    private final List<FeedCardDTO> feedCards;      // 종목코드 오름차순
+
+    // ===== 조건부 GET(ETag / Last-Modified)용 버전 정보 =====
+    private final Map<String, Long> stockVersions;      // 종목별 마지막 변경 버전
+    private final Map<String, Long> categoryVersions;   // 카테고리별 마지막 변경 버전 (종목 추가/삭제 포함)
+    private final long removedAt;                       // 마지막 종목 삭제 시각 (epoch ms, 없으면 0)
+    private final long lastModified;                    // 전체 목록 최종 수정 시각 (epoch ms)
+    private final Map<String, Long> categoryLastModified;
+
+    private StockSnapshot(long version, List<StockDTO> stocks, Map<String, Long> stockVersions,
+                          Map<String, Long> categoryVersions, long removedAt, StockSnapshot previous) {
+        this.version = version;
+        this.stocks = Collections.unmodifiableList(stocks);
+        this.stockVersions = Collections.unmodifiableMap(stockVersions);
+        this.categoryVersions = Collections.unmodifiableMap(categoryVersions);
+        this.removedAt = removedAt;
+
+        Map<String, StockDTO> index = new HashMap<>(stocks.size() * 2);
+        Map<String, List<StockDTO>> categoryIndex = new HashMap<>();
+        Map<String, Long> categoryModified = new HashMap<>();
+        long allModified = removedAt;
+        for (StockDTO stock : stocks) {
+            index.put(stock.getId(), stock);
+            long modified = lastModifiedOf(stock);
+            allModified = Math.max(allModified, modified);
+            if (stock.getCategory() != null) {
+                String code = stock.getCategory().getCode();
+                categoryIndex.computeIfAbsent(code, k -> new ArrayList<>()).add(stock);
+                categoryModified.merge(code, modified, Math::max);
+            }
+        }
+        this.byId = Collections.unmodifiableMap(index);
+        categoryIndex.replaceAll((code, list) -> Collections.unmodifiableList(list));
+        this.byCategory = Collections.unmodifiableMap(categoryIndex);
+        this.lastModified = allModified;
+        categoryModified.replaceAll((code, modified) -> Math.max(modified, removedAt));
+        this.categoryLastModified = Collections.unmodifiableMap(categoryModified);
+
+        // 바뀌지 않은 종목의 카드는 이전 스냅샷 것을 재사용
+        List<FeedCardDTO> cards = new ArrayList<>(stocks.size());
+        for (StockDTO stock : stocks) {
+            FeedCardDTO card = null;
+            if (previous != null && previous.byId.get(stock.getId()) == stock) {
+                card = previous.feedCardOf(stock.getId());
+            }
+            cards.add(card != null ? card : toFeedCard(stock));
+        }
+        cards.sort(Comparator.comparing(FeedCardDTO::getId));
+        this.feedCards = Collections.unmodifiableList(cards);
+    }
+
+    public static StockSnapshot of(long version, List<StockDTO> stocks) {
+        Map<String, Long> stockVersions = new HashMap<>();
+        Map<String, Long> categoryVersions = new HashMap<>();
+        for (StockDTO stock : stocks) {
+            stockVersions.put(stock.getId(), version);
+            if (stock.getCategory() != null) {
+                categoryVersions.put(stock.getCategory().getCode(), version);
+            }
+        }
+        return new StockSnapshot(version, new ArrayList<>(stocks), stockVersions, categoryVersions, 0L, null);
+    }
+
+    /**
+     * 변경된 종목만 교체한 새 스냅샷 생성
+     * - 기존 순서 유지, 새 종목은 뒤에 추가
+     * - 변경/삭제된 종목과 그 카테고리(이전/현재)의 버전을 newVersion으로 갱신
+     *
+     * @param updated 다시 조립된 종목
+     * @param removed DB에서 사라진 종목코드
+     */
+    public StockSnapshot withChanges(long newVersion, Collection<StockDTO> updated, Collection<String> removed) {
+        Map<String, StockDTO> replacements = new LinkedHashMap<>();
+        for (StockDTO stock : updated) {
+            replacements.put(stock.getId(), stock);
+        }
+
+        Map<String, Long> nextStockVersions = new HashMap<>(stockVersions);
+        Map<String, Long> nextCategoryVersions = new HashMap<>(categoryVersions);
+        List<StockDTO> next = new ArrayList<>(stocks.size() + replacements.size());
+        for (StockDTO stock : stocks) {
+            if (removed.contains(stock.getId())) {
+                nextStockVersions.remove(stock.getId());
+                touchCategory(nextCategoryVersions, stock, newVersion);
+                continue;
+            }
+            StockDTO replacement = replacements.remove(stock.getId());
+            if (replacement != null) {
+                touchCategory(nextCategoryVersions, stock, newVersion);
+            }
+            next.add(replacement != null ? replacement : stock);
+        }
+        next.addAll(replacements.values());
+
+        for (StockDTO stock : updated) {
+            nextStockVersions.put(stock.getId(), newVersion);
+            touchCategory(nextCategoryVersions, stock, newVersion);
+        }
+
+        boolean anyRemoved = removed.stream().anyMatch(byId::containsKey);
+        long nextRemovedAt = anyRemoved ? System.currentTimeMillis() : removedAt;
+        return new StockSnapshot(newVersion, next, nextStockVersions, nextCategoryVersions, nextRemovedAt, this);
+    }
+
+    private static void touchCategory(Map<String, Long> categoryVersions, StockDTO stock, long version) {
+        if (stock.getCategory() != null) {
+            categoryVersions.put(stock.getCategory().getCode(), version);
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<StockDTO> getStocks() {
+        return stocks;
+    }
+
+    public Optional<StockDTO> findById(String stockId) {
+        return Optional.ofNullable(byId.get(stockId));
+    }
+
+    /**
+     * 카테고리별 종목 (없는 카테고리는 빈 리스트)
+     */
+    public List<StockDTO> findByCategory(String categoryCode) {
+        return byCategory.getOrDefault(categoryCode, List.of());
+    }
+
+    /**
+     * 피드 카드 키셋 페이지 조회 (종목코드 오름차순)
+     *
+     * @param afterStockId 이 종목코드 다음부터 (null이면 처음부터)
+     * @param limit 최대 카드 수
+     * @param categoryCodes 카테고리 필터 (비어 있으면 전체)
+     */
+    public List<FeedCardDTO> feedPage(String afterStockId, int limit, Set<String> categoryCodes) {
+        int start = 0;
+        if (afterStockId != null) {
+            int low = 0;
+            int high = feedCards.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (feedCards.get(mid).getId().compareTo(afterStockId) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            start = low;
+        }
+
+        if (categoryCodes.isEmpty()) {
+            return feedCards.subList(start, Math.min(start + limit, feedCards.size()));
+        }
+        List<FeedCardDTO> page = new ArrayList<>(limit);
+        for (int i = start; i < feedCards.size() && page.size() < limit; i++) {
+            FeedCardDTO card = feedCards.get(i);
+            if (card.getCategory() != null && categoryCodes.contains(card.getCategory().getCode())) {
+                page.add(card);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 종목의 마지막 변경 버전 (없는 종목은 -1)
+     */
+    public long stockVersion(String stockId) {
+        return stockVersions.getOrDefault(stockId, -1L);
+    }
+
+    /**
+     * 카테고리 목록의 마지막 변경 버전 (종목이 없는 카테고리는 스냅샷 버전)
+     */
+    public long categoryVersion(String categoryCode) {
+        return categoryVersions.getOrDefault(categoryCode, version);
+    }
+
+    /**
+     * 전체 목록 최종 수정 시각 (epoch ms)
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public long categoryLastModified(String categoryCode) {
+        return categoryLastModified.getOrDefault(categoryCode, removedAt);
+    }
+
+    /**
+     * 종목 최종 수정 시각 (epoch ms, 알 수 없으면 0)
+     */
+    public static long lastModifiedOf(StockDTO stock) {
+        LocalDateTime modified = stock.getLastModified();
+        return modified != null ? modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    public boolean contains(String stockId) {
+        return byId.containsKey(stockId);
+    }
+
+    public int size() {
+        return stocks.size();
+    }
+
+    private FeedCardDTO feedCardOf(String stockId) {
+        int low = 0;
+        int high = feedCards.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = feedCards.get(mid).getId().compareTo(stockId);
+            if (cmp == 0) {
+                return feedCards.get(mid);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return null;
+    }
+
+    private static FeedCardDTO toFeedCard(StockDTO stock) {
+        List<ChartDataDTO> chartData = stock.getChartData() != null ? stock.getChartData() : List.of();
+        List<ChartDataDTO> recent = List.copyOf(
+                chartData.subList(Math.max(0, chartData.size() - FEED_CHART_POINTS), chartData.size()));
+        return new FeedCardDTO(
+                stock.getId(),
+                stock.getName(),
+                stock.getCategory(),
+                stock.getClpr(),
+                stock.getFltRt(),
+                stock.getVs(),
+                recent
+        );
+    }
+}
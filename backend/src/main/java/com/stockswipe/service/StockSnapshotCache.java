@@ -0,0 +1,117 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.StockDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인메모리 종목 스냅샷 캐시
+ * - 읽기: volatile 참조 하나만 읽음 (락 없음)
+ * - 쓰기: 전체 재조립 / 변경 종목만 재조립 후 스냅샷 교체 (쓰기끼리만 직렬화)
+ * - 버전은 스냅샷이 교체될 때마다 1씩 증가
+ *   (재시작 후에도 줄어들지 않도록 시작 시각(ms)에서 출발 → ETag가 재시작 전 값과 겹치지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockSnapshotCache {
+
+    private final StockAssembler stockAssembler;
+    private final StockChangeLog stockChangeLog;
+
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis());
+    private final Object writeLock = new Object();
+    private volatile StockSnapshot current;
+
+    /**
+     * 현재 스냅샷 (아직 없으면 전체 조립)
+     */
+    public StockSnapshot get() {
+        StockSnapshot snapshot = current;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (writeLock) {
+            if (current == null) {
+                rebuildLocked();
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 현재 스냅샷 (아직 조립 전이면 empty, 조립을 유발하지 않음)
+     */
+    public Optional<StockSnapshot> peek() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * 전체 종목을 다시 조립하여 스냅샷 교체
+     */
+    public StockSnapshot rebuild() {
+        synchronized (writeLock) {
+            return rebuildLocked();
+        }
+    }
+
+    /**
+     * 지정한 종목만 다시 조립하여 스냅샷 교체
+     * - 스냅샷이 아직 없으면 무시 (최초 조립 시 최신 데이터가 반영됨)
+     */
+    public void refresh(Collection<String> stockIds) {
+        if (stockIds.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            StockSnapshot base = current;
+            if (base == null) {
+                return;
+            }
+            List<StockDTO> updated = stockAssembler.assembleByStockIds(stockIds);
+
+            Set<String> removed = new HashSet<>(stockIds);
+            for (StockDTO stock : updated) {
+                removed.remove(stock.getId());
+            }
+
+            long version = versionSequence.incrementAndGet();
+            current = base.withChanges(version, updated, removed);
+            stockChangeLog.record(version, updated.stream().map(StockDTO::getId).toList(), removed);
+            log.debug("스냅샷 갱신 v{}: {}개 종목 재조립, {}개 제거", current.getVersion(), updated.size(), removed.size());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        StockSnapshot snapshot = rebuild();
+        log.info("✅ 종목 스냅샷 준비 완료: {}개 종목 (v{})", snapshot.size(), snapshot.getVersion());
+    }
+
+    /**
+     * 데이터 변경 커밋 후 해당 종목만 갱신
+     * - 커밋된 트랜잭션의 영속성 컨텍스트를 재사용하지 않도록 새 트랜잭션에서 조회
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStockDataChanged(StockDataChangedEvent event) {
+        refresh(event.stockIds());
+    }
+
+    private StockSnapshot rebuildLocked() {
+        List<StockDTO> stocks = stockAssembler.assembleAll();
+        long version = versionSequence.incrementAndGet();
+        current = StockSnapshot.of(version, stocks);
+        stockChangeLog.reset(version);
+        return current;
+    }
+}
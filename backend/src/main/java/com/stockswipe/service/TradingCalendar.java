@@ -0,0 +1,81 @@
+package com.stockswipe.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한국 증시 거래일 달력
+ * - 주말과 application.properties에 등록한 휴장일은 거래일이 아님
+ * - 매년 같은 날짜의 휴장일(market.fixed-holidays)과
+ *   설/추석/임시 휴장일처럼 해마다 다른 날짜(market.holidays)를 따로 관리
+ */
+@Component
+public class TradingCalendar {
+
+    public static final DateTimeFormatter BAS_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter MONTH_DAY_FORMAT = DateTimeFormatter.ofPattern("MMdd");
+
+    private final Set<MonthDay> fixedHolidays = new HashSet<>();
+    private final Set<LocalDate> holidays = new HashSet<>();
+
+    public TradingCalendar(@Value("${market.fixed-holidays:}") String fixedHolidays,
+                           @Value("${market.holidays:}") String holidays) {
+        for (String value : split(fixedHolidays)) {
+            this.fixedHolidays.add(MonthDay.parse(value, MONTH_DAY_FORMAT));
+        }
+        for (String value : split(holidays)) {
+            this.holidays.add(LocalDate.parse(value, BAS_DT_FORMAT));
+        }
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            return false;
+        }
+        return !fixedHolidays.contains(MonthDay.from(date)) && !holidays.contains(date);
+    }
+
+    /**
+     * date 이전(당일 제외)의 가장 가까운 거래일
+     */
+    public LocalDate previousTradingDay(LocalDate date) {
+        LocalDate day = date.minusDays(1);
+        while (!isTradingDay(day)) {
+            day = day.minusDays(1);
+        }
+        return day;
+    }
+
+    /**
+     * from ~ to (양 끝 포함) 사이의 거래일 목록 (오름차순)
+     */
+    public List<LocalDate> tradingDays(LocalDate from, LocalDate to) {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (isTradingDay(day)) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    private static List<String> split(String values) {
+        List<String> result = new ArrayList<>();
+        for (String value : values.split(",")) {
+            if (!value.isBlank()) {
+                result.add(value.trim());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,231 @@
+package com.stockswipe.controller;
+
+import com.stockswipe.config.JacksonConfig;
+import com.stockswipe.dto.StockDTO;
+import com.stockswipe.dto.StockFields;
+import com.stockswipe.service.GoogleNewsCrawler;
+import com.stockswipe.service.JobService;
+import com.stockswipe.service.OpenAiService;
+import com.stockswipe.service.PriceBackfillService;
+import com.stockswipe.service.ResourceVersion;
+import com.stockswipe.service.StockApiService;
+import com.stockswipe.service.StockResponseCache;
+import com.stockswipe.service.StockResponseCache.CachedBody;
+import com.stockswipe.service.StockResponseCache.Format;
+import com.stockswipe.service.StockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StockController.class)
+@Import(JacksonConfig.class)
+class StockControllerTest {
+
+    private static final long LAST_MODIFIED = Instant.parse("2024-07-05T06:00:00Z").toEpochMilli();
+    private static final byte[] JSON_BODY = "[{\"id\":\"005930\"}]".getBytes(StandardCharsets.UTF_8);
+    // CORS 설정이 Vary: Origin을 따로 붙이므로 값 목록에서 확인
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+    private static final byte[] CBOR_BODY = {(byte) 0x81, (byte) 0xa1, 0x62, 0x69, 0x64};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StockService stockService;
+    @MockBean
+    private StockResponseCache stockResponseCache;
+    @MockBean
+    private StockApiService stockApiService;
+    @MockBean
+    private OpenAiService openAiService;
+    @MockBean
+    private GoogleNewsCrawler googleNewsCrawler;
+    @MockBean
+    private PriceBackfillService priceBackfillService;
+    @MockBean
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // StockService.etag와 같은 규칙: 필드 선택마다 다른 ETag
+        when(stockService.versionOfAllStocks(any())).thenAnswer(invocation -> {
+            StockFields fields = invocation.getArgument(0);
+            String tag = fields.isAll() ? "stocks-7" : "stocks-7-" + Integer.toHexString(fields.hashCode());
+            return Optional.of(new ResourceVersion("\"" + tag + "\"", LAST_MODIFIED));
+        });
+        when(stockResponseCache.allStocks(Format.JSON)).thenReturn(Optional.of(new CachedBody(7, JSON_BODY, gzip(JSON_BODY))));
+        when(stockResponseCache.allStocks(Format.CBOR)).thenReturn(Optional.of(new CachedBody(7, CBOR_BODY, gzip(CBOR_BODY))));
+        StockDTO stock = new StockDTO();
+        stock.setId("005930");
+        stock.setName("삼성전자");
+        stock.setClpr(87_100L);
+        when(stockService.getAllStocks(any())).thenReturn(List.of(stock));
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private String etagOf(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    // ===== 조건부 GET =====
+
+    @Test
+    void listHasEtagAndLastModified() throws Exception {
+        mockMvc.perform(get("/api/stocks"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"stocks-7\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED))
+                .andExpect(content().bytes(JSON_BODY));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturns304WithoutBody() throws Exception {
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.IF_NONE_MATCH, "\"stocks-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"stocks-7\""))
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.IF_NONE_MATCH, "\"stocks-6\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void ifModifiedSinceWithoutEtagIsHonored() throws Exception {
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 05 Jul 2024 06:00:00 GMT"))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 05 Jul 2024 05:59:59 GMT"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void fieldSelectionHasItsOwnEtag() throws Exception {
+        String full = etagOf(get("/api/stocks"));
+        String partial = etagOf(get("/api/stocks").param("fields", "name,clpr"));
+
+        assertNotEquals(full, partial);
+        // 전체 목록 ETag로는 필드 선택 응답이 304가 되지 않음
+        mockMvc.perform(get("/api/stocks").param("fields", "name,clpr").header(HttpHeaders.IF_NONE_MATCH, full))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("삼성전자"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+        mockMvc.perform(get("/api/stocks").param("fields", "name,clpr").header(HttpHeaders.IF_NONE_MATCH, partial))
+                .andExpect(status().isNotModified());
+    }
+
+    // ===== gzip 본문 =====
+
+    @Test
+    void gzipIsServedWhenAcceptedAndHasItsOwnEtag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"stocks-7-gzip\""))
+                .andReturn();
+        assertArrayEquals(gzip(JSON_BODY), result.getResponse().getContentAsByteArray());
+
+        // identity ETag로는 gzip 응답이 304가 되지 않음 (반대도 마찬가지)
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stocks-7\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.IF_NONE_MATCH, "\"stocks-7-gzip\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void acceptEncodingQualityValues() throws Exception {
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, br"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT_ENCODING, "gzip; q=0.0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.5"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT_ENCODING, "*"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void notModifiedResponsesKeepVary() throws Exception {
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stocks-7-gzip\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(VARY)));
+    }
+
+    // ===== CBOR =====
+
+    @Test
+    void cborIsServedWhenPreferredAndHasItsOwnEtag() throws Exception {
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT, "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"stocks-7-cbor\""))
+                .andExpect(content().bytes(CBOR_BODY));
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT, "application/cbor")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"stocks-7-cbor-gzip\""))
+                .andExpect(content().bytes(gzip(CBOR_BODY)));
+
+        // JSON ETag로는 CBOR 응답이 304가 되지 않음
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT, "application/cbor")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stocks-7\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT, "application/cbor")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stocks-7-cbor\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(VARY)));
+    }
+
+    @Test
+    void acceptQualityValuesDecideBetweenJsonAndCbor() throws Exception {
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT, "application/json, application/cbor;q=0.5"))
+                .andExpect(content().contentType("application/json"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"stocks-7\""));
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+                .andExpect(content().contentType("application/cbor"));
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT, "application/cbor;q=0, */*"))
+                .andExpect(content().contentType("application/json"));
+        mockMvc.perform(get("/api/stocks").header(HttpHeaders.ACCEPT, "*/*"))
+                .andExpect(content().contentType("application/json"));
+    }
+
+    @Test
+    void fieldSelectionCanBeCbor() throws Exception {
+        String json = etagOf(get("/api/stocks").param("fields", "name"));
+        String cbor = etagOf(get("/api/stocks").param("fields", "name").header(HttpHeaders.ACCEPT, "application/cbor"));
+
+        assertNotEquals(json, cbor);
+        mockMvc.perform(get("/api/stocks").param("fields", "name").header(HttpHeaders.ACCEPT, "application/cbor"))
+                .andExpect(content().contentType("application/cbor"));
+    }
+}
@@ -0,0 +1,325 @@
+package com.stockswipe.fixtures;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockswipe.model.StockMaster;
+import com.stockswipe.repository.StockMasterRepository;
+import com.stockswipe.service.GoogleNewsCrawler;
+import com.stockswipe.service.NewsSentimentCache;
+import com.stockswipe.service.OpenAiService;
+import com.stockswipe.service.StockApiService;
+import com.stockswipe.service.TradingCalendar;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 재생용 외부 API 픽스처(fixtures/outbound) 생성기
+ * - 로컬 스텁 서버가 종목코드/종목명에서 결정적으로 만든 합성 응답을 record 모드로 녹화
+ * - 기존 픽스처를 지우고 다시 만들므로, 요청 형식(프롬프트 등)을 바꾸면 여기서 한 번에 재생성
+ * - 일반 테스트에는 포함되지 않음 (이름이 *Test가 아님)
+ *   실행: mvn test -Dtest=OutboundFixtureGenerator
+ * - 녹화 대상
+ *   - stock-api: FIXTURE_FROM ~ FIXTURE_TO 거래일별 시장 전체 시세 1페이지
+ *   - google-news: 초기 종목별 뉴스 RSS
+ *   - openai: 종목별 뉴스 감성 분석 묶음 요청, AI 정보 생성 요청
+ * - DB는 H2 (PostgreSQL 전용 ON CONFLICT 업서트는 호출하지 않음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fixtures;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "stock.api.key=fixture",
+        "openai.api.key=sk-fixture",
+        "outbound.recording.mode=record",
+        "ingest.scheduler.enabled=false",
+        "ingest.rate-limit.google-news.permits-per-second=500",
+        "ingest.rate-limit.google-news.max-concurrency=16",
+        "ingest.rate-limit.openai.permits-per-second=500",
+        "ingest.rate-limit.openai.max-concurrency=16"
+})
+class OutboundFixtureGenerator {
+
+    static final LocalDate FIXTURE_FROM = LocalDate.of(2024, 7, 1);
+    static final LocalDate FIXTURE_TO = LocalDate.of(2024, 7, 5);
+    static final int NEWS_PER_STOCK = 5;
+
+    private static final Path FIXTURE_DIR = Path.of("fixtures/outbound");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** 뉴스 제목 템플릿과 감성 분석 응답 (sentiment|score) */
+    private static final String[][] HEADLINES = {
+            {"%s, 3분기 영업이익 전년 대비 %d%% 증가", "POSITIVE|0.8"},
+            {"%s, 대규모 수주 계약 체결… 주가 강세", "POSITIVE|0.85"},
+            {"%s 목표주가 상향… \"실적 개선 지속\"", "POSITIVE|0.75"},
+            {"%s, 외국인 순매도에 %d%% 하락 마감", "NEGATIVE|0.25"},
+            {"%s, 원자재 가격 상승에 수익성 악화 우려", "NEGATIVE|0.3"},
+            {"%s 주주총회서 신임 대표 선임", "NEUTRAL|0.5"},
+            {"%s, 신사업 진출 검토… 업계 관심", "NEUTRAL|0.55"},
+    };
+    private static final String[] SOURCES = {"연합뉴스", "한국경제", "매일경제", "머니투데이", "이데일리"};
+    private static final String[] DAYS_OF_WEEK = {"Mon", "Tue", "Wed", "Thu", "Fri"};
+    private static final String[] KEYWORDS = {"성장", "수출", "신사업", "실적", "배당", "글로벌", "혁신", "투자", "점유율", "브랜드"};
+
+    private static HttpServer server;
+    private static final Map<String, String> stockNames = new TreeMap<>();   // 종목코드 → 종목명
+
+    @Autowired
+    private StockMasterRepository stockMasterRepository;
+    @Autowired
+    private StockApiService stockApiService;
+    @Autowired
+    private GoogleNewsCrawler googleNewsCrawler;
+    @Autowired
+    private OpenAiService openAiService;
+    @Autowired
+    private TradingCalendar tradingCalendar;
+
+    // 캐시 DB 저장은 ON CONFLICT라 H2에서 실행할 수 없고, 캐시 히트가 나면 감성 분석 요청이 녹화되지 않음
+    @MockBean
+    private NewsSentimentCache newsSentimentCache;
+
+    @DynamicPropertySource
+    static void stubUpstreams(DynamicPropertyRegistry registry) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/1160100/service/GetStockSecuritiesInfoService/getStockPriceInfo",
+                exchange -> respond(exchange, "application/xml;charset=UTF-8", stockPricePage(query(exchange))));
+        server.createContext("/rss/search", OutboundFixtureGenerator::newsFeed);
+        server.createContext("/v1/chat/completions", OutboundFixtureGenerator::chatCompletion);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        registry.add("stock.api.base-url", () -> baseUrl + "/1160100/service/GetStockSecuritiesInfoService");
+        registry.add("news.google.rss-url", () -> baseUrl + "/rss/search");
+        registry.add("openai.api.base-url", () -> baseUrl + "/");
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        server.stop(0);
+    }
+
+    @Test
+    void generate() throws IOException {
+        for (String host : List.of("stock-api", "google-news", "openai")) {
+            deleteRecursively(FIXTURE_DIR.resolve(host));
+        }
+        for (StockMaster stockMaster : stockMasterRepository.findAll()) {
+            stockNames.put(stockMaster.getStockId(), stockMaster.getName());
+        }
+
+        // 시세는 요청만 녹화 (매칭할 종목을 비워서 업서트하지 않음)
+        for (LocalDate day : tradingCalendar.tradingDays(FIXTURE_FROM, FIXTURE_TO)) {
+            stockApiService.ingestMarketDay(day.format(TradingCalendar.BAS_DT_FORMAT), Map.of());
+        }
+        googleNewsCrawler.crawlAllStocksNews(10);
+        openAiService.generateAllStocksInfo();
+    }
+
+    // ===== 스텁 응답 =====
+
+    private static String stockPricePage(Map<String, String> query) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>")
+                .append("<body><numOfRows>").append(query.get("numOfRows")).append("</numOfRows>")
+                .append("<pageNo>1</pageNo><totalCount>").append(stockNames.size()).append("</totalCount><items>");
+        int dayOffset = LocalDate.parse(query.get("basDt"), TradingCalendar.BAS_DT_FORMAT).getDayOfMonth();
+        stockNames.forEach((stockId, name) -> {
+            int seed = seed(stockId);
+            long close = 1000 + ((seed + dayOffset * 7) % 400) * 500L;
+            long change = (seed % 41 - 20) * close / 1000;
+            long open = close - change;
+            long shares = 10_000_000L + (seed % 500) * 1_000_000L;
+            long volume = 10_000 + (seed + dayOffset) % 5_000_000;
+            xml.append("<item><basDt>").append(query.get("basDt")).append("</basDt>")
+                    .append("<srtnCd>").append(stockId).append("</srtnCd>")
+                    .append("<isinCd>KR7").append(stockId).append("003</isinCd>")
+                    .append("<itmsNm>").append(escape(name)).append("</itmsNm>")
+                    .append("<mrktCtg>").append(seed % 3 == 0 ? "KOSDAQ" : "KOSPI").append("</mrktCtg>")
+                    .append("<clpr>").append(close).append("</clpr>")
+                    .append("<vs>").append(change).append("</vs>")
+                    .append("<fltRt>").append(String.format(Locale.ROOT, "%.2f", change * 100.0 / (close - change))).append("</fltRt>")
+                    .append("<mkp>").append(open).append("</mkp>")
+                    .append("<hipr>").append(Math.max(close, open) + close / 50).append("</hipr>")
+                    .append("<lopr>").append(Math.min(close, open) - close / 50).append("</lopr>")
+                    .append("<trqu>").append(volume).append("</trqu>")
+                    .append("<trPrc>").append(volume * close).append("</trPrc>")
+                    .append("<lstgStCnt>").append(shares).append("</lstgStCnt>")
+                    .append("<mrktTotAmt>").append(shares * close).append("</mrktTotAmt></item>");
+        });
+        return xml.append("</items></body></response>").toString();
+    }
+
+    private static void newsFeed(HttpExchange exchange) throws IOException {
+        String keyword = query(exchange).get("q");
+        String name = keyword.replace(" 주식", "");
+        String stockId = stockNames.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(name))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse("000000");
+
+        StringBuilder rss = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<rss version=\"2.0\" xmlns:media=\"http://search.yahoo.com/mrss/\"><channel>")
+                .append("<generator>NFE/5.0</generator><title>\"").append(escape(keyword)).append("\" - Google 뉴스</title>")
+                .append("<link>https://news.google.com/search?q=").append(escape(keyword))
+                .append("&amp;hl=ko&amp;gl=KR&amp;ceid=KR:ko</link><language>ko</language>");
+        int seed = seed(name);
+        for (int i = 0; i < NEWS_PER_STOCK; i++) {
+            String[] headline = HEADLINES[(seed + i * 3) % HEADLINES.length];
+            String source = SOURCES[(seed + i) % SOURCES.length];
+            String title = String.format(headline[0], name, 2 + (seed + i) % 18);
+            rss.append("<item><title>").append(escape(title + " - " + source)).append("</title>")
+                    .append("<link>https://news.google.com/rss/articles/fixture-").append(stockId).append('-').append(i)
+                    .append("?oc=5</link><guid isPermaLink=\"false\">fixture-").append(stockId).append('-').append(i)
+                    .append("</guid><pubDate>").append(DAYS_OF_WEEK[i]).append(", 0").append(1 + i)
+                    .append(" Jul 2024 0").append(i).append(":00:00 GMT</pubDate>")
+                    .append("<source url=\"https://www.example.com\">").append(source).append("</source></item>");
+        }
+        rss.append("</channel></rss>");
+
+        exchange.getResponseHeaders().add("ETag", "W/\"rss-" + stockId + "-" + Integer.toHexString(seed(rss.toString())) + "\"");
+        exchange.getResponseHeaders().add("Last-Modified", "Fri, 05 Jul 2024 04:00:00 GMT");
+        respond(exchange, "application/xml; charset=utf-8", rss.toString());
+    }
+
+    private static void chatCompletion(HttpExchange exchange) throws IOException {
+        JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+        JsonNode messages = request.get("messages");
+        String prompt = messages.get(messages.size() - 1).get("content").asText();
+        String content = answer(prompt);
+
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("role", "assistant");
+        message.put("content", content);
+        Map<String, Object> choice = new LinkedHashMap<>();
+        choice.put("index", 0);
+        choice.put("message", message);
+        choice.put("finish_reason", "stop");
+        Map<String, Object> usage = new LinkedHashMap<>();
+        usage.put("prompt_tokens", prompt.length() / 2);
+        usage.put("completion_tokens", content.length() / 2);
+        usage.put("total_tokens", (prompt.length() + content.length()) / 2);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", "chatcmpl-fixture" + seed(prompt));
+        response.put("object", "chat.completion");
+        response.put("created", 1720000000);
+        response.put("model", "gpt-3.5-turbo-0125");
+        response.put("choices", List.of(choice));
+        response.put("usage", usage);
+        respond(exchange, "application/json", MAPPER.writeValueAsString(response));
+    }
+
+    private static String answer(String prompt) {
+        if (prompt.contains("뉴스 목록")) {
+            StringBuilder json = new StringBuilder("[");
+            for (String line : prompt.split("\n")) {
+                if (!line.matches("^\\d+\\. \\[.*")) {
+                    continue;
+                }
+                String[] sentiment = sentimentOf(line).split("\\|");
+                if (json.length() > 1) {
+                    json.append(',');
+                }
+                json.append("{\"id\":").append(line, 0, line.indexOf('.'))
+                        .append(",\"sentiment\":\"").append(sentiment[0])
+                        .append("\",\"score\":").append(sentiment[1]).append('}');
+            }
+            return json.append(']').toString();
+        }
+        String name = quotedStockName(prompt);
+        if (prompt.contains("기업 개요")) {
+            return name + "은(는) 국내 증시에 상장된 기업으로, 주력 사업을 중심으로 안정적인 매출 기반을 갖추고 있습니다. "
+                    + "최근에는 신사업 투자와 해외 시장 확대를 통해 성장 동력을 확보하고 있습니다.";
+        }
+        if (prompt.contains("주요 사업 내용")) {
+            return name + "은(는) 핵심 제품과 서비스의 개발·생산·판매를 주요 사업으로 영위하고 있습니다.";
+        }
+        if (prompt.contains("핵심 키워드")) {
+            int seed = seed(name);
+            return String.join(", ", KEYWORDS[seed % 10], KEYWORDS[(seed + 1) % 10], KEYWORDS[(seed + 3) % 10],
+                    KEYWORDS[(seed + 5) % 10], KEYWORDS[(seed + 7) % 10]);
+        }
+        return "확인할 수 없습니다.";
+    }
+
+    private static String sentimentOf(String title) {
+        for (String[] headline : HEADLINES) {
+            int start = headline[0].indexOf("%s") + 2;
+            if (title.contains(headline[0].substring(start, Math.min(headline[0].length(), start + 6)))) {
+                return headline[1];
+            }
+        }
+        return "NEUTRAL|0.5";
+    }
+
+    private static String quotedStockName(String prompt) {
+        int start = prompt.indexOf("종목 '");
+        if (start < 0) {
+            return "";
+        }
+        start += "종목 '".length();
+        return prompt.substring(start, prompt.indexOf('\'', start));
+    }
+
+    // ===== 유틸 =====
+
+    private static int seed(String text) {
+        return Math.abs(text.hashCode());
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        for (String param : exchange.getRequestURI().getRawQuery().split("&")) {
+            String[] pair = param.split("=", 2);
+            params.put(pair[0], pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "");
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
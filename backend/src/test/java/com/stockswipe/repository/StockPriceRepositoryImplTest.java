@@ -0,0 +1,146 @@
+package com.stockswipe.repository;
+
+import com.stockswipe.model.Category;
+import com.stockswipe.model.StockMaster;
+import com.stockswipe.model.StockPrice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StockPriceRepositoryImpl.upsertAll은 PostgreSQL 전용 SQL(ON CONFLICT, IS DISTINCT FROM, RETURNING)이라
+ * H2 대신 실제 PostgreSQL 컨테이너로 검증 (Docker가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class StockPriceRepositoryImplTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private StockPriceRepository stockPriceRepository;
+
+    @Autowired
+    private StockMasterRepository stockMasterRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private StockMaster samsung;
+    private StockMaster hynix;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(new Category("semi", "반도체"));
+        samsung = stockMasterRepository.save(new StockMaster("005930", "삼성전자", category));
+        hynix = stockMasterRepository.save(new StockMaster("000660", "SK하이닉스", category));
+    }
+
+    private static StockPrice price(StockMaster stockMaster, String basDt, long clpr) {
+        StockPrice price = new StockPrice(stockMaster, basDt);
+        price.setMrktCtg("KOSPI");
+        price.setClpr(clpr);
+        price.setVs(100L);
+        price.setFltRt(null);   // null끼리는 같은 값으로 봐야 함
+        price.setTrqu(1_000_000L);
+        return price;
+    }
+
+    private Long clpr(StockMaster stockMaster, String basDt) {
+        return jdbcTemplate.queryForObject("SELECT clpr FROM stock_prices WHERE stock_master_id = ? AND bas_dt = ?",
+                Long.class, stockMaster.getId(), basDt);
+    }
+
+    private Timestamp updatedAt(StockMaster stockMaster, String basDt) {
+        return jdbcTemplate.queryForObject("SELECT updated_at FROM stock_prices WHERE stock_master_id = ? AND bas_dt = ?",
+                Timestamp.class, stockMaster.getId(), basDt);
+    }
+
+    private int rowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_prices", Integer.class);
+    }
+
+    @Test
+    void insertsNewRows() {
+        Set<Long> written = stockPriceRepository.upsertAll(List.of(
+                price(samsung, "20240705", 87_100), price(hynix, "20240705", 236_000)));
+
+        assertEquals(Set.of(samsung.getId(), hynix.getId()), written);
+        assertEquals(2, rowCount());
+        assertEquals(87_100L, clpr(samsung, "20240705"));
+    }
+
+    @Test
+    void unchangedRowsAreNotRewritten() {
+        stockPriceRepository.upsertAll(List.of(price(samsung, "20240705", 87_100), price(hynix, "20240705", 236_000)));
+        Timestamp before = updatedAt(samsung, "20240705");
+
+        Set<Long> written = stockPriceRepository.upsertAll(List.of(
+                price(samsung, "20240705", 87_100), price(hynix, "20240705", 236_000)));
+
+        assertTrue(written.isEmpty());
+        assertEquals(before, updatedAt(samsung, "20240705"));
+    }
+
+    @Test
+    void changedValueReturnsOnlyThatStock() {
+        stockPriceRepository.upsertAll(List.of(price(samsung, "20240705", 87_100), price(hynix, "20240705", 236_000)));
+
+        // 같은 날짜 정정 (UPDATE) + 다음 날짜 (INSERT)
+        Set<Long> written = stockPriceRepository.upsertAll(List.of(
+                price(samsung, "20240705", 87_400), price(hynix, "20240705", 236_000)));
+        assertEquals(Set.of(samsung.getId()), written);
+        assertEquals(87_400L, clpr(samsung, "20240705"));
+
+        written = stockPriceRepository.upsertAll(List.of(price(hynix, "20240708", 231_500)));
+        assertEquals(Set.of(hynix.getId()), written);
+        assertEquals(3, rowCount());
+    }
+
+    @Test
+    void splitsLargeInputIntoSeveralStatements() {
+        // 배치 크기(500)를 넘는 입력: 2종목 x 601일 = 1202행 → INSERT 3개
+        List<StockPrice> prices = new ArrayList<>();
+        LocalDate day = LocalDate.of(2022, 1, 3);
+        for (int i = 0; i < 601; i++, day = day.plusDays(1)) {
+            String basDt = day.toString().replace("-", "");
+            prices.add(price(samsung, basDt, 70_000 + i));
+            prices.add(price(hynix, basDt, 120_000 + i));
+        }
+
+        assertEquals(Set.of(samsung.getId(), hynix.getId()), stockPriceRepository.upsertAll(prices));
+        assertEquals(1202, rowCount());
+        assertEquals(70_600L, clpr(samsung, day.minusDays(1).toString().replace("-", "")));
+
+        assertTrue(stockPriceRepository.upsertAll(prices).isEmpty());
+    }
+}
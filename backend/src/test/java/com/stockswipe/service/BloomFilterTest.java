@@ -0,0 +1,43 @@
+package com.stockswipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void neverMissesAddedHashes() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(NewsLinkIndex.hash("https://news.example.com/article/" + i));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(NewsLinkIndex.hash("https://news.example.com/article/" + i)));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(NewsLinkIndex.hash("https://news.example.com/article/" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(NewsLinkIndex.hash("https://other.example.com/article/" + i))) {
+                falsePositives++;
+            }
+        }
+        // 목표 1% - 여유를 두고 2% 미만
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+
+        assertFalse(filter.mightContain(NewsLinkIndex.hash("https://news.example.com/article/1")));
+    }
+}
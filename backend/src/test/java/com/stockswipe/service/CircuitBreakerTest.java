@@ -0,0 +1,112 @@
+package com.stockswipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.stockswipe.service.CircuitBreaker.State.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final List<CircuitBreaker.State> transitions = new ArrayList<>();
+
+    private CircuitBreaker breaker(Duration openDuration) {
+        return new CircuitBreaker("test", 3, openDuration, transitions::add);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 2; i++) {
+            breaker.acquirePermission();
+            breaker.onFailure();
+        }
+        assertEquals(CLOSED, breaker.getState());
+
+        breaker.acquirePermission();
+        breaker.onFailure();
+        assertEquals(OPEN, breaker.getState());
+        assertEquals(List.of(OPEN), transitions);
+
+        CircuitOpenException e = assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+        assertTrue(e.getRetryAfter().compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertEquals(CLOSED, breaker.getState());
+        assertTrue(transitions.isEmpty());
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialThenCloses() throws InterruptedException {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        tripOpen(breaker);
+        Thread.sleep(80);
+
+        breaker.acquirePermission();
+        assertEquals(HALF_OPEN, breaker.getState());
+        // 시험 호출이 끝나기 전에는 다른 호출을 막음
+        assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+
+        breaker.onSuccess();
+        assertEquals(CLOSED, breaker.getState());
+        assertEquals(List.of(OPEN, HALF_OPEN, CLOSED), transitions);
+        breaker.acquirePermission();
+    }
+
+    @Test
+    void failedTrialReopens() throws InterruptedException {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        tripOpen(breaker);
+        Thread.sleep(80);
+
+        breaker.acquirePermission();
+        breaker.onFailure();
+
+        assertEquals(OPEN, breaker.getState());
+        assertEquals(List.of(OPEN, HALF_OPEN, OPEN), transitions);
+        assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+    }
+
+    @Test
+    void ignoredTrialReleasesTheSlot() throws InterruptedException {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        tripOpen(breaker);
+        Thread.sleep(80);
+
+        breaker.acquirePermission();
+        breaker.onIgnored();
+
+        assertEquals(HALF_OPEN, breaker.getState());
+        breaker.acquirePermission();
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CircuitBreaker("test", 0, Duration.ofSeconds(1), state -> { }));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CircuitBreaker("test", 1, Duration.ZERO, state -> { }));
+    }
+
+    private static void tripOpen(CircuitBreaker breaker) {
+        for (int i = 0; i < 3; i++) {
+            breaker.acquirePermission();
+            breaker.onFailure();
+        }
+        assertEquals(OPEN, breaker.getState());
+    }
+}
@@ -0,0 +1,200 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.NewsFeedItem;
+import com.stockswipe.dto.NewsSentiment;
+import com.stockswipe.model.Category;
+import com.stockswipe.model.NewsCrawlState;
+import com.stockswipe.model.StockMaster;
+import com.stockswipe.repository.IngestCheckpointRepository;
+import com.stockswipe.repository.NewsCrawlStateRepository;
+import com.stockswipe.repository.NewsRepository;
+import com.stockswipe.repository.StockMasterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GoogleNewsCrawlerTest {
+
+    private final OutboundHttpClient outboundHttpClient = mock(OutboundHttpClient.class);
+    private final NewsCrawlStateRepository crawlStateRepository = mock(NewsCrawlStateRepository.class);
+    private final StockMasterRepository stockMasterRepository = mock(StockMasterRepository.class);
+    private final OpenAiService openAiService = mock(OpenAiService.class);
+    private ExternalDependencies externalDependencies;
+    private GoogleNewsCrawler crawler;
+
+    @BeforeEach
+    void setUp() {
+        // 재시도 대기는 짧게, 서킷은 테스트 중 열리지 않게
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("ingest.resilience.google-news.base-delay", "1ms")
+                .withProperty("ingest.resilience.google-news.max-delay", "1ms")
+                .withProperty("ingest.resilience.google-news.failure-threshold", "100");
+        env.setConversionService(new ApplicationConversionService());
+        externalDependencies = new ExternalDependencies(env, new SimpleMeterRegistry());
+        crawler = new GoogleNewsCrawler(stockMasterRepository, mock(NewsRepository.class),
+                openAiService, mock(ApplicationEventPublisher.class), externalDependencies,
+                outboundHttpClient, mock(NewsLinkIndex.class), mock(IngestCheckpointRepository.class),
+                crawlStateRepository, new GoogleNewsRssParser(), mock(IngestExecutor.class));
+        ReflectionTestUtils.setField(crawler, "rssUrl", "http://localhost/rss");
+    }
+
+    private void respond(InputStream... bodies) throws IOException {
+        respond(Map.of(), bodies);
+    }
+
+    private void respond(Map<String, List<String>> headers, InputStream... bodies) throws IOException {
+        var stubbing = when(outboundHttpClient.get(eq(OutboundHttpClient.Host.GOOGLE_NEWS), any(), any()));
+        for (InputStream body : bodies) {
+            stubbing = stubbing.thenReturn(new OutboundHttpClient.Response(200,
+                    HttpHeaders.of(headers, (name, value) -> true), body));
+        }
+    }
+
+    private static String rss(String... items) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>검색</title>"
+                + String.join("", items) + "</channel></rss>";
+    }
+
+    private static String item(String guid, Instant pubDate) {
+        return "<item><title>기사 " + guid + "</title><link>https://news.example.com/" + guid + "</link>"
+                + "<guid isPermaLink=\"false\">" + guid + "</guid>"
+                + (pubDate != null ? "<pubDate>" + DateTimeFormatter.RFC_1123_DATE_TIME.format(pubDate.atZone(ZoneOffset.UTC)) + "</pubDate>" : "")
+                + "<source url=\"https://news.example.com\">예시뉴스</source></item>";
+    }
+
+    private static List<String> guids(GoogleNewsCrawler.FeedResult feed) {
+        return feed.items().stream().map(NewsFeedItem::getGuid).toList();
+    }
+
+    /**
+     * crawlAndSaveNews 실행 준비 (종목/크롤링 상태 조회, 감성 분석은 전부 NEUTRAL)
+     */
+    private void prepareStock(NewsCrawlState crawlState) {
+        when(stockMasterRepository.findByStockId("005930"))
+                .thenReturn(Optional.of(new StockMaster("005930", "삼성전자", new Category("semi", "반도체"))));
+        when(crawlStateRepository.findByStockId("005930")).thenReturn(Optional.of(crawlState));
+        when(openAiService.analyzeNewsSentiments(any())).thenAnswer(invocation ->
+                Collections.nCopies(invocation.<List<?>>getArgument(0).size(), NewsSentiment.neutral()));
+    }
+
+    private static InputStream body(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void malformedFeedFailsWithoutRetry() throws IOException {
+        respond(body("<html><body>Service Unavailable<br></body>"));
+
+        assertThrows(IllegalStateException.class,
+                () -> crawler.crawlGoogleNews("삼성전자 주식", 10, new NewsCrawlState("005930")));
+        verify(outboundHttpClient, times(1)).get(any(), any(), any());
+        assertEquals(CircuitBreaker.State.CLOSED, externalDependencies.googleNews().getCircuitState());
+    }
+
+    @Test
+    void bodyReadFailureIsRetried() throws IOException {
+        String rss = "<rss><channel><item><title>삼성전자 실적";
+        respond(truncated(rss), truncated(rss), truncated(rss));
+
+        UncheckedIOException e = assertThrows(UncheckedIOException.class,
+                () -> crawler.crawlGoogleNews("삼성전자 주식", 10, new NewsCrawlState("005930")));
+        assertInstanceOf(HttpTimeoutException.class, e.getCause());
+        verify(outboundHttpClient, times(3)).get(any(), any(), any());
+    }
+
+    private static InputStream truncated(String prefix) {
+        return new SequenceInputStream(body(prefix), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new HttpTimeoutException("본문 읽기 타임아웃");
+            }
+        });
+    }
+
+    @Test
+    void skipsItemsUpToHighWaterMark() throws IOException {
+        Instant mark = Instant.parse("2024-07-05T06:00:00Z");
+        NewsCrawlState crawlState = new NewsCrawlState("005930");
+        crawlState.setLastPubDate(mark);
+        crawlState.setLastGuid("g1");
+        respond(body(rss(
+                item("g1", mark),                              // 지난번 기준 기사 → 건너뜀
+                item("g2", mark),                              // pubDate는 같지만 다른 기사 → 새 기사
+                item("g3", mark.minusSeconds(3600)),           // 기준보다 오래됨 → 건너뜀
+                item("g4", null),                              // pubDate 없음 → 링크 중복 체크에 맡김
+                item("g5", mark.plusSeconds(3600)))));
+
+        GoogleNewsCrawler.FeedResult feed = crawler.crawlGoogleNews("삼성전자 주식", 10, crawlState);
+
+        assertEquals(List.of("g2", "g4", "g5"), guids(feed));
+        assertTrue(feed.complete());
+    }
+
+    @Test
+    void completeReadAdvancesHighWaterMarkAndStoresValidators() throws IOException {
+        Instant mark = Instant.parse("2024-07-05T06:00:00Z");
+        NewsCrawlState crawlState = new NewsCrawlState("005930");
+        crawlState.setLastPubDate(mark);
+        crawlState.setLastGuid("g1");
+        prepareStock(crawlState);
+        respond(Map.of("ETag", List.of("\"v2\""), "Last-Modified", List.of("Fri, 05 Jul 2024 08:00:00 GMT")),
+                body(rss(item("g2", mark.plusSeconds(7200)), item("g3", null), item("g4", mark.plusSeconds(3600)))));
+
+        crawler.crawlAndSaveNews("005930", 10);
+
+        // pubDate 없는 기사는 기준에 영향 없음, 피드 순서가 아니라 가장 최근 pubDate 기준
+        assertEquals(mark.plusSeconds(7200), crawlState.getLastPubDate());
+        assertEquals("g2", crawlState.getLastGuid());
+        assertEquals("\"v2\"", crawlState.getEtag());
+        assertEquals("Fri, 05 Jul 2024 08:00:00 GMT", crawlState.getLastModified());
+        verify(crawlStateRepository).save(crawlState);
+    }
+
+    @Test
+    void incompleteReadKeepsHighWaterMarkAndClearsValidators() throws IOException {
+        Instant mark = Instant.parse("2024-07-05T06:00:00Z");
+        NewsCrawlState crawlState = new NewsCrawlState("005930");
+        crawlState.setLastPubDate(mark);
+        crawlState.setLastGuid("g1");
+        crawlState.setEtag("\"v1\"");
+        crawlState.setLastModified("Fri, 05 Jul 2024 06:00:00 GMT");
+        prepareStock(crawlState);
+        respond(Map.of("ETag", List.of("\"v2\"")), body(rss(
+                item("g2", mark.plusSeconds(60)), item("g3", mark.plusSeconds(120)), item("g4", mark.plusSeconds(180)))));
+
+        // count=2에서 멈춤 → 읽지 않은 g4가 남아 있으므로 기준을 올리면 안 됨
+        crawler.crawlAndSaveNews("005930", 2);
+
+        assertEquals(mark, crawlState.getLastPubDate());
+        assertEquals("g1", crawlState.getLastGuid());
+        // 다음 요청이 304로 끝나지 않도록 조건부 요청 헤더도 지움
+        assertNull(crawlState.getEtag());
+        assertNull(crawlState.getLastModified());
+        verify(crawlStateRepository).save(crawlState);
+    }
+}
@@ -0,0 +1,75 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.NewsFeedItem;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoogleNewsRssParserTest {
+
+    private final GoogleNewsRssParser parser = new GoogleNewsRssParser();
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String item(int n) {
+        return "<item><title>기사 " + n + "</title><link>https://news.example.com/" + n + "</link>"
+                + "<guid isPermaLink=\"false\">g" + n + "</guid><pubDate>Fri, 05 Jul 2024 0" + n + ":00:00 GMT</pubDate>"
+                + "<description>&lt;a href=\"https://news.example.com/" + n + "\"&gt;기사 " + n + "&lt;/a&gt;</description>"
+                + "<source url=\"https://news.example.com\">예시뉴스</source></item>";
+    }
+
+    private static final String HEAD = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel>"
+            + "<title>\"삼성전자 주식\" - Google 뉴스</title><link>https://news.google.com</link>";
+
+    @Test
+    void readsWholeFeed() throws Exception {
+        List<NewsFeedItem> items = new ArrayList<>();
+        boolean complete = parser.parse(stream(HEAD + item(1) + item(2)
+                + "<item><title> 제목만 </title><pubDate>어제</pubDate></item></channel></rss>"), items::add);
+
+        assertTrue(complete);
+        assertEquals(3, items.size());
+        NewsFeedItem first = items.get(0);
+        assertEquals("기사 1", first.getTitle());
+        assertEquals("https://news.example.com/1", first.getLink());
+        assertEquals("g1", first.getGuid());
+        assertEquals("예시뉴스", first.getSource());
+        assertEquals(Instant.parse("2024-07-05T01:00:00Z"), first.getPubDate());
+        // channel의 title/link는 item으로 섞이지 않음, 형식이 다른 pubDate는 null
+        NewsFeedItem last = items.get(2);
+        assertEquals("제목만", last.getTitle());
+        assertNull(last.getLink());
+        assertNull(last.getPubDate());
+    }
+
+    @Test
+    void stopsWhenSinkDeclinesAndReportsIncomplete() throws Exception {
+        // 2건 뒤는 읽으면 실패하는 스트림 → 멈추지 않으면 예외
+        InputStream feed = new SequenceInputStream(stream(HEAD + item(1) + item(2)), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("더 읽으면 안 됨");
+            }
+        });
+        List<NewsFeedItem> items = new ArrayList<>();
+
+        boolean complete = parser.parse(feed, item -> {
+            items.add(item);
+            return items.size() < 2;
+        });
+
+        assertFalse(complete);
+        assertEquals(List.of("g1", "g2"), items.stream().map(NewsFeedItem::getGuid).toList());
+    }
+}
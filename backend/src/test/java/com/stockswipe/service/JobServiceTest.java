@@ -0,0 +1,136 @@
+package com.stockswipe.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobServiceTest {
+
+    private final JobService jobService = new JobService();
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    private static void awaitFinished(Job job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.isFinished()) {
+            assertTrue(System.nanoTime() < deadline, "작업이 끝나지 않음: " + job.getId());
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void concurrentSubmitsOfSameTypeShareOneJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Job>> submits = new ArrayList<>();
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                submits.add(callers.submit(() -> {
+                    start.await();
+                    return jobService.submit("price-update", () -> {
+                        runs.incrementAndGet();
+                        release.await();
+                        return "done";
+                    });
+                }));
+            }
+            start.countDown();
+
+            Set<String> ids = new HashSet<>();
+            for (Future<Job> submit : submits) {
+                ids.add(submit.get(5, TimeUnit.SECONDS).getId());
+            }
+            assertEquals(1, ids.size());
+        }
+
+        // 다른 종류는 따로 실행
+        Job other = jobService.submit("news-crawl", () -> "other");
+        awaitFinished(other);
+        assertEquals("SUCCEEDED", other.toDTO().getStatus());
+
+        release.countDown();
+        Job job = jobService.find(submits.get(0).get().getId()).orElseThrow();
+        awaitFinished(job);
+        assertEquals(1, runs.get());
+        assertEquals("done", job.toDTO().getResult());
+    }
+
+    @Test
+    void newJobStartsAfterPreviousFinishes() throws Exception {
+        Job first = jobService.submit("ai-info", () -> 1);
+        awaitFinished(first);
+
+        Job second = jobService.submit("ai-info", () -> 2);
+        awaitFinished(second);
+
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(1, first.toDTO().getResult());
+        assertEquals(2, second.toDTO().getResult());
+        // 끝난 작업도 조회 가능
+        assertTrue(jobService.find(first.getId()).isPresent());
+    }
+
+    @Test
+    void failedJobDoesNotBlockNextSubmit() throws Exception {
+        Job failed = jobService.submit("backfill", () -> {
+            throw new IllegalStateException("API 키 없음");
+        });
+        awaitFinished(failed);
+        assertEquals("FAILED", failed.toDTO().getStatus());
+        assertEquals("API 키 없음", failed.toDTO().getError());
+
+        Job retry = jobService.submit("backfill", () -> "ok");
+        assertNotEquals(failed.getId(), retry.getId());
+        awaitFinished(retry);
+        assertEquals("SUCCEEDED", retry.toDTO().getStatus());
+    }
+
+    @Test
+    void cancelIsVisibleThroughCurrentJob() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean sawCancel = new AtomicBoolean();
+        Job job = jobService.submit("news-crawl", () -> {
+            Job current = JobService.currentJob().orElseThrow();
+            started.countDown();
+            // 단위 작업 사이에서 취소 여부를 확인하는 수집 루프와 같은 방식
+            while (!current.isCancelRequested()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            sawCancel.set(true);
+            return "stopped";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertSame(job, jobService.cancel(job.getId()).orElseThrow());
+        awaitFinished(job);
+
+        assertTrue(sawCancel.get());
+        assertEquals("CANCELLED", job.toDTO().getStatus());
+        // 작업 밖에서는 현재 작업 없음
+        assertTrue(JobService.currentJob().isEmpty());
+    }
+
+    @Test
+    void cancelUnknownJobIsEmpty() {
+        assertTrue(jobService.cancel("no-such-job").isEmpty());
+    }
+}
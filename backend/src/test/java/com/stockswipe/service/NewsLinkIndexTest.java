@@ -0,0 +1,54 @@
+package com.stockswipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewsLinkIndexTest {
+
+    @Test
+    void normalizesSchemeHostAndDefaultPort() {
+        assertEquals("https://news.example.com/a/1", NewsLinkIndex.normalize(" HTTPS://News.Example.COM:443/a/1 "));
+        assertEquals("http://news.example.com/a/1", NewsLinkIndex.normalize("http://news.example.com:80/a/1"));
+        assertEquals("http://news.example.com:8080/a/1", NewsLinkIndex.normalize("http://news.example.com:8080/a/1"));
+    }
+
+    @Test
+    void dropsFragmentTrailingSlashAndTrackingParams() {
+        assertEquals("https://news.example.com/a/1",
+                NewsLinkIndex.normalize("https://news.example.com/a/1/#comments"));
+        assertEquals("https://news.example.com",
+                NewsLinkIndex.normalize("https://news.example.com/"));
+        assertEquals("https://news.example.com/a/1?id=7",
+                NewsLinkIndex.normalize("https://news.example.com/a/1?utm_source=google&id=7&oc=5&FBCLID=x&gclid=y&ref=rss"));
+        assertEquals("https://news.example.com/a/1",
+                NewsLinkIndex.normalize("https://news.example.com/a/1?utm_medium=rss&oc=5"));
+    }
+
+    @Test
+    void sortsQueryParamsKeepingValues() {
+        assertEquals("https://news.example.com/view?aid=2&oid=1",
+                NewsLinkIndex.normalize("https://news.example.com/view?oid=1&aid=2"));
+        assertNotEquals(NewsLinkIndex.normalize("https://news.example.com/view?aid=2"),
+                NewsLinkIndex.normalize("https://news.example.com/view?aid=3"));
+    }
+
+    @Test
+    void keepsPathCase() {
+        assertEquals("https://news.example.com/Article/ABC", NewsLinkIndex.normalize("https://news.example.com/Article/ABC"));
+    }
+
+    @Test
+    void leavesUnparseableLinksTrimmed() {
+        assertEquals("not a url", NewsLinkIndex.normalize(" not a url "));
+        assertEquals("/relative/path", NewsLinkIndex.normalize("/relative/path"));
+    }
+
+    @Test
+    void equivalentLinksHashTheSame() {
+        String hash = NewsLinkIndex.hash("https://news.example.com/view?oid=1&aid=2&utm_source=google");
+        assertEquals(hash, NewsLinkIndex.hash("HTTPS://news.example.com:443/view/?aid=2&oid=1#top"));
+        assertEquals(64, hash.length());
+        assertNotEquals(hash, NewsLinkIndex.hash("https://news.example.com/view?oid=1&aid=3"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.NewsSentiment;
+import com.stockswipe.model.NewsSentimentCacheEntry;
+import com.stockswipe.repository.NewsSentimentCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NewsSentimentCacheTest {
+
+    @Test
+    void normalizeTitleDropsSourceSuffix() {
+        assertEquals("삼성전자 3분기 영업이익 10조", NewsSentimentCache.normalizeTitle("삼성전자, 3분기 영업이익 10조 - 한국경제"));
+        assertEquals("삼성전자 3분기 영업이익 10조", NewsSentimentCache.normalizeTitle("  삼성전자 3분기 영업이익 10조 - 연합뉴스 "));
+        // 뒤가 언론사 이름으로 보기에 너무 길면 제목의 일부
+        assertEquals("반도체 훈풍 하반기 메모리 가격 상승세 이어질 것 증권가 전망 잇따라",
+                NewsSentimentCache.normalizeTitle("반도체 훈풍 - 하반기 메모리 가격 상승세 이어질 것, 증권가 전망 잇따라"));
+    }
+
+    @Test
+    void normalizeUnifiesWidthCaseAndPunctuation() {
+        assertEquals("sk하이닉스 hbm 공급 확대", NewsSentimentCache.normalize("ＳＫ하이닉스, HBM 공급 확대!!"));
+        assertEquals("lg에너지솔루션 2 3", NewsSentimentCache.normalize("LG에너지솔루션…  2.3"));
+    }
+
+    @Test
+    void keyIsStableAcrossSourcesAndFormatting() {
+        String key = NewsSentimentCache.key("삼성전자", "삼성전자, 3분기 영업이익 10조 - 한국경제");
+
+        assertEquals(64, key.length());
+        assertEquals(key, NewsSentimentCache.key(" 삼성전자 ", "삼성전자 3분기 영업이익 10조! - 연합뉴스"));
+        assertNotEquals(key, NewsSentimentCache.key("SK하이닉스", "삼성전자, 3분기 영업이익 10조 - 한국경제"));
+        assertNotEquals(key, NewsSentimentCache.key("삼성전자", "삼성전자, 3분기 영업이익 9조 - 한국경제"));
+    }
+
+    @Test
+    void readsDatabaseOnceThenServesFromMemory() {
+        NewsSentimentCacheRepository repository = mock(NewsSentimentCacheRepository.class);
+        NewsSentimentCacheEntry entry = new NewsSentimentCacheEntry("k1");
+        entry.setSentiment("POSITIVE");
+        entry.setScore(0.8);
+        entry.setModelVersion("v1");
+        when(repository.findByCacheKeyIn(any())).thenReturn(List.of(entry));
+        NewsSentimentCache cache = new NewsSentimentCache(repository, new SimpleMeterRegistry(), 100);
+
+        Map<String, NewsSentiment> found = cache.getAll(List.of("k1", "k2"), "v1");
+        assertEquals(Map.of("k1", new NewsSentiment("POSITIVE", 0.8)), found);
+
+        when(repository.findByCacheKeyIn(any())).thenReturn(List.of());
+        assertEquals(found, cache.getAll(List.of("k1"), "v1"));
+        verify(repository, times(1)).findByCacheKeyIn(any());
+    }
+
+    @Test
+    void ignoresOtherModelVersions() {
+        NewsSentimentCacheRepository repository = mock(NewsSentimentCacheRepository.class);
+        NewsSentimentCacheEntry entry = new NewsSentimentCacheEntry("k1");
+        entry.setSentiment("POSITIVE");
+        entry.setScore(0.8);
+        entry.setModelVersion("v0");
+        when(repository.findByCacheKeyIn(any())).thenReturn(List.of(entry));
+        NewsSentimentCache cache = new NewsSentimentCache(repository, new SimpleMeterRegistry(), 100);
+
+        assertTrue(cache.getAll(List.of("k1"), "v1").isEmpty());
+    }
+
+    @Test
+    void putAllFillsMemoryAndUpsertsRows() {
+        NewsSentimentCacheRepository repository = mock(NewsSentimentCacheRepository.class);
+        NewsSentimentCache cache = new NewsSentimentCache(repository, new SimpleMeterRegistry(), 100);
+
+        cache.putAll(Map.of("k1", new NewsSentiment("NEGATIVE", 0.3)), "v1");
+
+        verify(repository).upsertAll(argThat(entries -> entries.size() == 1
+                && entries.iterator().next().getCacheKey().equals("k1")
+                && entries.iterator().next().getModelVersion().equals("v1")));
+        assertEquals(new NewsSentiment("NEGATIVE", 0.3), cache.getAll(List.of("k1"), "v1").get("k1"));
+        verify(repository, never()).findByCacheKeyIn(any());
+    }
+}
@@ -0,0 +1,223 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.NewsHeadline;
+import com.stockswipe.dto.NewsSentiment;
+import com.stockswipe.repository.StockMasterRepository;
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.completion.chat.ChatMessageRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OpenAiServiceTest {
+
+    private static final Pattern PROMPT_LINE = Pattern.compile("(?m)^(\\d+)\\. \\[([^]]+)] (.+)$");
+
+    private final com.theokanning.openai.service.OpenAiService openAiClient =
+            mock(com.theokanning.openai.service.OpenAiService.class);
+    private final NewsSentimentCache sentimentCache = mock(NewsSentimentCache.class);
+    // 요청마다 프롬프트의 제목 목록 (요청 순서대로)
+    private final List<List<String>> requests = new ArrayList<>();
+    private OpenAiService service;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment env = new MockEnvironment().withProperty("ingest.resilience.openai.max-attempts", "1");
+        env.setConversionService(new ApplicationConversionService());
+        service = new OpenAiService(mock(StockMasterRepository.class), mock(ApplicationEventPublisher.class),
+                mock(TransactionTemplate.class), new ExternalDependencies(env, new SimpleMeterRegistry()),
+                mock(IngestExecutor.class), sentimentCache, mock(OutboundRecordingStore.class), null, "http://localhost/");
+        ReflectionTestUtils.setField(service, "openAiClient", openAiClient);
+        ReflectionTestUtils.setField(service, "sentimentBatchMaxItems", 25);
+        ReflectionTestUtils.setField(service, "sentimentBatchMaxInputTokens", 1500);
+        when(sentimentCache.getAll(any(), anyString())).thenReturn(Map.of());
+    }
+
+    private static NewsHeadline headline(String title) {
+        return new NewsHeadline("삼성전자", title);
+    }
+
+    /**
+     * 프롬프트의 제목 목록을 받아 응답 본문을 만드는 가짜 OpenAI
+     */
+    private void respond(Function<List<String>, String> responder) {
+        when(openAiClient.createChatCompletion(any(ChatCompletionRequest.class))).thenAnswer(invocation -> {
+            ChatCompletionRequest request = invocation.getArgument(0);
+            Matcher matcher = PROMPT_LINE.matcher(request.getMessages().get(0).getContent());
+            List<String> titles = new ArrayList<>();
+            while (matcher.find()) {
+                titles.add(matcher.group(3));
+            }
+            requests.add(titles);
+
+            ChatCompletionChoice choice = new ChatCompletionChoice();
+            choice.setMessage(new ChatMessage(ChatMessageRole.ASSISTANT.value(), responder.apply(titles)));
+            ChatCompletionResult result = new ChatCompletionResult();
+            result.setChoices(List.of(choice));
+            return result;
+        });
+    }
+
+    /**
+     * 제목 "뉴스 N" → score N/10 (어느 결과가 어느 제목으로 갔는지 확인용)
+     */
+    private static String scoreByTitle(List<String> titles) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < titles.size(); i++) {
+            double score = Integer.parseInt(titles.get(i).replace("뉴스 ", "")) / 10.0;
+            json.append(i > 0 ? "," : "").append(String.format(Locale.ROOT,
+                    "{\"id\":%d,\"sentiment\":\"POSITIVE\",\"score\":%.1f}", i + 1, score));
+        }
+        return json.append("]").toString();
+    }
+
+    @Test
+    void planSplitsByMaxItems() {
+        ReflectionTestUtils.setField(service, "sentimentBatchMaxItems", 3);
+        List<NewsHeadline> headlines = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            headlines.add(headline("뉴스 " + i));
+        }
+
+        assertEquals(List.of(3, 3, 1), service.planSentimentBatches(headlines).stream().map(List::size).toList());
+    }
+
+    @Test
+    void planSplitsByInputTokenBudgetIncludingPromptOverhead() {
+        // 번호가 한 자리인 동안 줄마다 토큰 수가 같음
+        int lineTokens = OpenAiService.estimateTokens("1. [삼성전자] 뉴스 1\n");
+        ReflectionTestUtils.setField(service, "sentimentBatchMaxInputTokens",
+                OpenAiService.SENTIMENT_PROMPT_OVERHEAD_TOKENS + 2 * lineTokens);
+        List<NewsHeadline> headlines = List.of(headline("뉴스 1"), headline("뉴스 2"), headline("뉴스 3"),
+                headline("뉴스 4"), headline("뉴스 5"));
+
+        assertEquals(List.of(2, 2, 1), service.planSentimentBatches(headlines).stream().map(List::size).toList());
+
+        // 한 건만으로 한도를 넘어도 혼자 한 묶음으로 보냄 (빈 묶음이나 무한 반복 없음)
+        ReflectionTestUtils.setField(service, "sentimentBatchMaxInputTokens", 1);
+        assertEquals(List.of(1, 1, 1, 1, 1), service.planSentimentBatches(headlines).stream().map(List::size).toList());
+    }
+
+    @Test
+    void parseAcceptsSurroundingTextAndClampsScore() {
+        List<NewsSentiment> sentiments = OpenAiService.parseSentiments(
+                "결과입니다:\n[{\"id\":2,\"sentiment\":\"negative\",\"score\":-0.3},"
+                        + "{\"id\":1,\"sentiment\":\"POSITIVE\",\"score\":1.7}]\n끝", 2);
+
+        assertEquals(new NewsSentiment("POSITIVE", 1.0), sentiments.get(0));
+        assertEquals(new NewsSentiment("NEGATIVE", 0.0), sentiments.get(1));
+    }
+
+    @Test
+    void parseTreatsUnknownLabelAsNeutral() {
+        List<NewsSentiment> sentiments = OpenAiService.parseSentiments(
+                "[{\"id\":1,\"sentiment\":\"BULLISH\",\"score\":0.9}]", 1);
+
+        assertEquals(NewsSentiment.neutral(), sentiments.get(0));
+    }
+
+    @Test
+    void parseRejectsMissingOrOutOfRangeIds() {
+        // 2번 누락
+        assertThrows(IllegalArgumentException.class, () -> OpenAiService.parseSentiments(
+                "[{\"id\":1,\"sentiment\":\"POSITIVE\",\"score\":0.9}]", 2));
+        // 범위 밖 번호는 무시되므로 결과적으로 2번 누락
+        assertThrows(IllegalArgumentException.class, () -> OpenAiService.parseSentiments(
+                "[{\"id\":1,\"sentiment\":\"POSITIVE\",\"score\":0.9},{\"id\":3,\"sentiment\":\"NEGATIVE\",\"score\":0.1}]", 2));
+        assertThrows(IllegalArgumentException.class, () -> OpenAiService.parseSentiments("분석할 수 없습니다.", 1));
+        assertThrows(IllegalArgumentException.class, () -> OpenAiService.parseSentiments("[{\"id\":1,", 1));
+    }
+
+    @Test
+    void unparsableResponseIsRetriedInHalves() {
+        // 4건 묶음만 응답이 잘림 → 2건씩 다시 요청
+        respond(titles -> titles.size() == 4 ? "[{\"id\":1,\"sentiment\":\"POS" : scoreByTitle(titles));
+
+        List<NewsSentiment> sentiments = service.analyzeNewsSentiments(List.of(
+                headline("뉴스 1"), headline("뉴스 2"), headline("뉴스 3"), headline("뉴스 4")));
+
+        assertEquals(List.of(List.of("뉴스 1", "뉴스 2", "뉴스 3", "뉴스 4"),
+                List.of("뉴스 1", "뉴스 2"), List.of("뉴스 3", "뉴스 4")), requests);
+        assertEquals(List.of(0.1, 0.2, 0.3, 0.4), sentiments.stream().map(NewsSentiment::getScore).toList());
+    }
+
+    @Test
+    void singleItemThatStillFailsFallsBackToNeutralAndIsNotCached() {
+        respond(titles -> titles.contains("뉴스 2") ? "모르겠습니다" : scoreByTitle(titles));
+
+        List<NewsSentiment> sentiments = service.analyzeNewsSentiments(List.of(headline("뉴스 1"), headline("뉴스 2")));
+
+        assertEquals(List.of(List.of("뉴스 1", "뉴스 2"), List.of("뉴스 1"), List.of("뉴스 2")), requests);
+        assertEquals(new NewsSentiment("POSITIVE", 0.1), sentiments.get(0));
+        assertEquals(NewsSentiment.neutral(), sentiments.get(1));
+
+        verify(sentimentCache).putAll(
+                Map.of(NewsSentimentCache.key("삼성전자", "뉴스 1"), new NewsSentiment("POSITIVE", 0.1)), "gpt-3.5-turbo/v1");
+    }
+
+    @Test
+    void callFailureReturnsNeutralWithoutCaching() {
+        when(openAiClient.createChatCompletion(any(ChatCompletionRequest.class)))
+                .thenThrow(new IllegalStateException("boom"));
+
+        List<NewsSentiment> sentiments = service.analyzeNewsSentiments(List.of(headline("뉴스 1"), headline("뉴스 2")));
+
+        assertEquals(List.of(NewsSentiment.neutral(), NewsSentiment.neutral()), sentiments);
+        verify(sentimentCache).putAll(Map.of(), "gpt-3.5-turbo/v1");
+    }
+
+    @Test
+    void cacheMissesAreStitchedBackInInputOrder() {
+        ReflectionTestUtils.setField(service, "sentimentBatchMaxItems", 2);
+        NewsSentiment cached = new NewsSentiment("NEGATIVE", 0.05);
+        when(sentimentCache.getAll(any(), anyString()))
+                .thenReturn(Map.of(NewsSentimentCache.key("삼성전자", "뉴스 2"), cached));
+        respond(OpenAiServiceTest::scoreByTitle);
+
+        // 2번은 캐시, 1번은 중복 → 1, 3, 4, 5만 2건씩 요청
+        List<NewsSentiment> sentiments = service.analyzeNewsSentiments(List.of(
+                headline("뉴스 1"), headline("뉴스 2"), headline("뉴스 3"), headline("뉴스 1"),
+                headline("뉴스 4"), headline("뉴스 5")));
+
+        assertEquals(List.of(List.of("뉴스 1", "뉴스 3"), List.of("뉴스 4", "뉴스 5")), requests);
+        assertEquals(List.of(0.1, 0.05, 0.3, 0.1, 0.4, 0.5), sentiments.stream().map(NewsSentiment::getScore).toList());
+        assertSame(cached, sentiments.get(1));
+        // 캐시가 없었다면 6건 → 3번 요청
+        verify(sentimentCache).recordSavedCalls(1);
+        verify(sentimentCache).putAll(argThat(map -> map.size() == 4), anyString());
+    }
+
+    @Test
+    void allCachedMakesNoRequest() {
+        when(sentimentCache.getAll(any(), anyString()))
+                .thenReturn(Map.of(NewsSentimentCache.key("삼성전자", "뉴스 1"), new NewsSentiment("POSITIVE", 0.7)));
+
+        List<NewsSentiment> sentiments = service.analyzeNewsSentiments(List.of(headline("뉴스 1"), headline("뉴스 1")));
+
+        assertEquals(List.of(0.7, 0.7), sentiments.stream().map(NewsSentiment::getScore).toList());
+        verifyNoInteractions(openAiClient);
+        verify(sentimentCache).putAll(anyMap(), anyString());
+    }
+}
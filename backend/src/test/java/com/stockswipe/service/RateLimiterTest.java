@@ -0,0 +1,80 @@
+package com.stockswipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter("test", 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter("test", 1, 0));
+    }
+
+    @Test
+    void burstUpToOneSecondThenPaces() {
+        RateLimiter limiter = new RateLimiter("test", 20, 100);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            limiter.execute(() -> null);
+        }
+        long burstMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(burstMillis < 200, "버킷에 쌓인 토큰은 바로 사용: " + burstMillis + "ms");
+
+        start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            limiter.execute(() -> null);
+        }
+        long pacedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // 초당 20개 → 10개에 약 500ms
+        assertTrue(pacedMillis >= 400, "토큰이 없으면 채워질 때까지 대기: " + pacedMillis + "ms");
+        assertTrue(pacedMillis < 2000, "고정 sleep 없이 다음 토큰까지만 대기: " + pacedMillis + "ms");
+    }
+
+    @Test
+    void limitsConcurrentCalls() throws Exception {
+        RateLimiter limiter = new RateLimiter("test", 1000, 2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> limiter.execute(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    inFlight.decrementAndGet();
+                    return null;
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void failedCallReleasesItsSlot() {
+        RateLimiter limiter = new RateLimiter("test", 1000, 1);
+
+        assertThrows(IOException.class, () -> limiter.execute(() -> {
+            throw new IOException("실패");
+        }));
+        assertEquals("ok", limiter.execute(() -> "ok"));
+    }
+}
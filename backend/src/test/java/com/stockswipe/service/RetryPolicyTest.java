@@ -0,0 +1,81 @@
+package com.stockswipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    private final RetryPolicy policy = new RetryPolicy(
+            5, Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(10));
+
+    private static OutboundHttpException http(int status, String retryAfter) {
+        Map<String, List<String>> headers = retryAfter != null ? Map.of("Retry-After", List.of(retryAfter)) : Map.of();
+        return new OutboundHttpException("example.com", status, HttpHeaders.of(headers, (name, value) -> true));
+    }
+
+    @Test
+    void backoffIsJitteredUpToExponentialCap() {
+        IOException failure = new IOException("connection reset");
+        long[] caps = {100, 200, 400, 500};
+        for (int attempt = 1; attempt <= caps.length; attempt++) {
+            long max = 0;
+            for (int i = 0; i < 500; i++) {
+                long delay = policy.delayAfter(attempt, failure).orElseThrow().toMillis();
+                assertTrue(delay >= 0 && delay <= caps[attempt - 1], "attempt " + attempt + ": " + delay);
+                max = Math.max(max, delay);
+            }
+            // full jitter라도 500번이면 상한 근처까지 나옴
+            assertTrue(max > caps[attempt - 1] / 2, "attempt " + attempt + " max " + max);
+        }
+    }
+
+    @Test
+    void stopsAfterMaxAttempts() {
+        assertTrue(policy.delayAfter(5, new IOException("timeout")).isEmpty());
+    }
+
+    @Test
+    void retriesOnlyTransientFailures() {
+        assertTrue(RetryPolicy.isTransient(new HttpTimeoutException("timeout")));
+        assertTrue(RetryPolicy.isTransient(new UncheckedIOException(new IOException("reset"))));
+        assertTrue(RetryPolicy.isTransient(http(503, null)));
+        assertTrue(RetryPolicy.isTransient(http(429, null)));
+        assertTrue(RetryPolicy.isTransient(http(408, null)));
+        assertFalse(RetryPolicy.isTransient(http(400, null)));
+        assertFalse(RetryPolicy.isTransient(http(404, null)));
+        assertFalse(RetryPolicy.isTransient(new CircuitOpenException("test", Duration.ofSeconds(1))));
+        assertFalse(RetryPolicy.isTransient(new IllegalStateException("bug")));
+        // 잘못된 응답 XML은 재시도 대상 아님
+        assertFalse(RetryPolicy.isTransient(new IllegalStateException("파싱 실패", new XMLStreamException("unexpected"))));
+
+        assertTrue(policy.delayAfter(1, http(404, null)).isEmpty());
+    }
+
+    @Test
+    void honorsRetryAfter() {
+        assertEquals(Optional.of(Duration.ofSeconds(3)), policy.delayAfter(1, http(429, "3")));
+        assertEquals(Optional.of(Duration.ofSeconds(3)),
+                policy.delayAfter(1, new RuntimeException(http(503, " 3 "))));
+        // 너무 긴 Retry-After는 기다리지 않고 실패
+        assertTrue(policy.delayAfter(1, http(503, "60")).isEmpty());
+        // 해석할 수 없으면 일반 백오프
+        assertTrue(policy.delayAfter(1, http(503, "soon")).orElseThrow().toMillis() <= 100);
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RetryPolicy(0, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,97 @@
+package com.stockswipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockChangeLogTest {
+
+    @Test
+    void returnsChangesAfterSince() {
+        StockChangeLog log = new StockChangeLog(100);
+        log.reset(1);
+        log.record(2, List.of("005930"), List.of());
+        log.record(3, List.of("000660"), List.of("105560"));
+
+        StockChangeLog.Delta delta = log.since(1, 3).orElseThrow();
+        assertEquals(Set.of("005930", "000660"), delta.changedStockIds());
+        assertEquals(Set.of("105560"), delta.removedStockIds());
+
+        delta = log.since(2, 3).orElseThrow();
+        assertEquals(Set.of("000660"), delta.changedStockIds());
+
+        delta = log.since(3, 3).orElseThrow();
+        assertTrue(delta.changedStockIds().isEmpty());
+        assertTrue(delta.removedStockIds().isEmpty());
+    }
+
+    @Test
+    void ignoresVersionsAfterUpTo() {
+        StockChangeLog log = new StockChangeLog(100);
+        log.reset(1);
+        log.record(2, List.of("005930"), List.of());
+        log.record(3, List.of("000660"), List.of());
+
+        assertEquals(Set.of("005930"), log.since(1, 2).orElseThrow().changedStockIds());
+    }
+
+    @Test
+    void latestRecordWinsForTheSameStock() {
+        StockChangeLog log = new StockChangeLog(100);
+        log.reset(1);
+        log.record(2, List.of(), List.of("005930"));
+        log.record(3, List.of("005930"), List.of());
+        log.record(4, List.of("000660"), List.of());
+        log.record(5, List.of(), List.of("000660"));
+
+        StockChangeLog.Delta delta = log.since(1, 5).orElseThrow();
+        assertEquals(Set.of("005930"), delta.changedStockIds());
+        assertEquals(Set.of("000660"), delta.removedStockIds());
+    }
+
+    @Test
+    void sinceBeforeFloorRequiresFullResync() {
+        StockChangeLog log = new StockChangeLog(100);
+        log.reset(5);
+        log.record(6, List.of("005930"), List.of());
+
+        assertTrue(log.since(4, 6).isEmpty());
+        assertTrue(log.since(5, 6).isPresent());
+    }
+
+    @Test
+    void sinceInTheFutureRequiresFullResync() {
+        StockChangeLog log = new StockChangeLog(100);
+        log.reset(1);
+
+        assertTrue(log.since(2, 1).isEmpty());
+    }
+
+    @Test
+    void overflowRaisesFloor() {
+        StockChangeLog log = new StockChangeLog(2);
+        log.reset(1);
+        log.record(2, List.of("005930"), List.of());
+        log.record(3, List.of("000660"), List.of());
+        log.record(4, List.of("105560"), List.of());
+
+        // 버전 2 기록이 밀려남 → 그 이전 버전 기준 요청은 전체 동기화
+        assertTrue(log.since(1, 4).isEmpty());
+        StockChangeLog.Delta delta = log.since(2, 4).orElseThrow();
+        assertEquals(Set.of("000660", "105560"), delta.changedStockIds());
+    }
+
+    @Test
+    void resetDropsEarlierChanges() {
+        StockChangeLog log = new StockChangeLog(100);
+        log.reset(1);
+        log.record(2, List.of("005930"), List.of());
+        log.reset(3);
+
+        assertTrue(log.since(2, 3).isEmpty());
+        assertTrue(log.since(3, 3).orElseThrow().changedStockIds().isEmpty());
+    }
+}
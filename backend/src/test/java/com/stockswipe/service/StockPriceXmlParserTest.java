@@ -0,0 +1,115 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.StockPriceItem;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockPriceXmlParserTest {
+
+    private final StockPriceXmlParser parser = new StockPriceXmlParser();
+
+    private static InputStream xml(String body) {
+        return new ByteArrayInputStream(("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><response>"
+                + body + "</response>").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String header(String code, String msg) {
+        return "<header><resultCode>" + code + "</resultCode><resultMsg>" + msg + "</resultMsg></header>";
+    }
+
+    @Test
+    void parsesItemsAndTotalCount() throws Exception {
+        List<StockPriceItem> items = new ArrayList<>();
+        int totalCount = parser.parse(xml(header("00", "NORMAL SERVICE.")
+                + "<body><numOfRows>2</numOfRows><pageNo>1</pageNo><totalCount>2853</totalCount><items>"
+                + "<item><basDt>20240701</basDt><srtnCd>005930</srtnCd><itmsNm>삼성전자</itmsNm><mrktCtg>KOSPI</mrktCtg>"
+                + "<clpr>81800</clpr><vs>-700</vs><fltRt>-.85</fltRt><trqu> 11984563 </trqu><trPrc>982164201500</trPrc>"
+                + "<mrktTotAmt>488329684570000</mrktTotAmt></item>"
+                + "<item><srtnCd>000660</srtnCd><clpr></clpr><vs/></item>"
+                + "</items></body>"), items::add);
+
+        assertEquals(2853, totalCount);
+        assertEquals(2, items.size());
+        StockPriceItem first = items.get(0);
+        assertEquals("20240701", first.getBasDt());
+        assertEquals("005930", first.getSrtnCd());
+        assertEquals("삼성전자", first.getItmsNm());
+        assertEquals(81800L, first.getClpr());
+        assertEquals(-700L, first.getVs());
+        assertEquals(-0.85, first.getFltRt());
+        assertEquals(11984563L, first.getTrqu());
+        assertEquals(488329684570000L, first.getMrktTotAmt());
+        assertNull(first.getMkp());
+
+        StockPriceItem second = items.get(1);
+        assertEquals("000660", second.getSrtnCd());
+        assertNull(second.getClpr());
+        assertNull(second.getVs());
+    }
+
+    @Test
+    void emptyBodyHasNoItems() throws Exception {
+        List<StockPriceItem> items = new ArrayList<>();
+        int totalCount = parser.parse(xml(header("00", "NORMAL SERVICE.")
+                + "<body><numOfRows>1000</numOfRows><pageNo>1</pageNo><totalCount>0</totalCount><items/></body>"), items::add);
+
+        assertEquals(0, totalCount);
+        assertTrue(items.isEmpty());
+    }
+
+    @Test
+    void errorResultCodeFailsThePage() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> parser.parse(
+                xml(header("30", "SERVICE KEY IS NOT REGISTERED ERROR.")), item -> fail("item 없음")));
+        assertTrue(e.getMessage().contains("30"));
+    }
+
+    @Test
+    void numbersOutsideLongRangeAreNull() throws Exception {
+        List<StockPriceItem> items = new ArrayList<>();
+        parser.parse(xml(header("00", "NORMAL SERVICE.")
+                + "<body><items><item><trPrc>9999999999999999999</trPrc><trqu>12a4</trqu>"
+                + "<mrktTotAmt>999999999999999999</mrktTotAmt><fltRt>abc</fltRt></item></items></body>"), items::add);
+
+        StockPriceItem item = items.get(0);
+        assertNull(item.getTrPrc());
+        assertNull(item.getTrqu());
+        assertEquals(999_999_999_999_999_999L, item.getMrktTotAmt());
+        assertNull(item.getFltRt());
+    }
+
+    @Test
+    void readFailureMidBodyIsKeptAsCause() {
+        InputStream truncated = new SequenceInputStream(
+                new ByteArrayInputStream(("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response>"
+                        + header("00", "NORMAL SERVICE.") + "<body><items><item><srtnCd>0059").getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new HttpTimeoutException("본문 읽기 타임아웃");
+                    }
+                });
+
+        XMLStreamException e = assertThrows(XMLStreamException.class, () -> parser.parse(truncated, item -> { }));
+        assertInstanceOf(HttpTimeoutException.class, RetryPolicy.findIOException(e));
+    }
+
+    @Test
+    void malformedResponseHasNoIoCause() {
+        XMLStreamException e = assertThrows(XMLStreamException.class, () -> parser.parse(
+                new ByteArrayInputStream("<html><body>Service Unavailable<br></body>".getBytes(StandardCharsets.UTF_8)),
+                item -> { }));
+        assertNull(RetryPolicy.findIOException(e));
+    }
+}
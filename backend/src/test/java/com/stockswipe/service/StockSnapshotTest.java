@@ -0,0 +1,126 @@
+package com.stockswipe.service;
+
+import com.stockswipe.dto.CategoryDTO;
+import com.stockswipe.dto.FeedCardDTO;
+import com.stockswipe.dto.StockDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockSnapshotTest {
+
+    private static final CategoryDTO SEMICONDUCTOR = new CategoryDTO(1L, "SEMI", "반도체");
+    private static final CategoryDTO BANK = new CategoryDTO(2L, "BANK", "은행");
+
+    private static StockDTO stock(String id, CategoryDTO category, long clpr) {
+        StockDTO stock = new StockDTO();
+        stock.setId(id);
+        stock.setName("종목" + id);
+        stock.setCategory(category);
+        stock.setClpr(clpr);
+        return stock;
+    }
+
+    @Test
+    void indexesStocksByIdAndCategory() {
+        StockDTO samsung = stock("005930", SEMICONDUCTOR, 81800);
+        StockDTO hynix = stock("000660", SEMICONDUCTOR, 230000);
+        StockDTO kb = stock("105560", BANK, 77000);
+        StockSnapshot snapshot = StockSnapshot.of(1, List.of(samsung, hynix, kb));
+
+        assertEquals(3, snapshot.size());
+        assertSame(samsung, snapshot.findById("005930").orElseThrow());
+        assertTrue(snapshot.findById("999999").isEmpty());
+        assertEquals(List.of(samsung, hynix), snapshot.findByCategory("SEMI"));
+        assertEquals(List.of(kb), snapshot.findByCategory("BANK"));
+        assertTrue(snapshot.findByCategory("NONE").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getStocks().add(samsung));
+    }
+
+    @Test
+    void withChangesReplacesOnlyChangedStocks() {
+        StockDTO samsung = stock("005930", SEMICONDUCTOR, 81800);
+        StockDTO hynix = stock("000660", SEMICONDUCTOR, 230000);
+        StockDTO kb = stock("105560", BANK, 77000);
+        StockSnapshot first = StockSnapshot.of(1, List.of(samsung, hynix, kb));
+
+        StockDTO samsungUpdated = stock("005930", SEMICONDUCTOR, 82000);
+        StockDTO naver = stock("035420", null, 170000);
+        StockSnapshot second = first.withChanges(2, List.of(samsungUpdated, naver), Set.of("105560"));
+
+        assertEquals(2, second.getVersion());
+        assertEquals(List.of(samsungUpdated, hynix, naver), second.getStocks());
+        assertFalse(second.contains("105560"));
+        assertTrue(second.findByCategory("BANK").isEmpty());
+        assertEquals(List.of(samsungUpdated, hynix), second.findByCategory("SEMI"));
+
+        assertEquals(2, second.stockVersion("005930"));
+        assertEquals(1, second.stockVersion("000660"));
+        assertEquals(2, second.stockVersion("035420"));
+        assertEquals(-1, second.stockVersion("105560"));
+        assertEquals(2, second.categoryVersion("SEMI"));
+        assertEquals(2, second.categoryVersion("BANK"));
+
+        // 이전 스냅샷은 그대로
+        assertSame(samsung, first.findById("005930").orElseThrow());
+        assertTrue(first.contains("105560"));
+        assertEquals(1, first.categoryVersion("SEMI"));
+    }
+
+    @Test
+    void categoryVersionIsUnchangedWhenOtherCategoriesChange() {
+        StockSnapshot first = StockSnapshot.of(1, List.of(
+                stock("005930", SEMICONDUCTOR, 81800), stock("105560", BANK, 77000)));
+
+        StockSnapshot second = first.withChanges(2, List.of(stock("105560", BANK, 78000)), Set.of());
+
+        assertEquals(1, second.categoryVersion("SEMI"));
+        assertEquals(2, second.categoryVersion("BANK"));
+        assertEquals(2, second.categoryVersion("NONE"));
+    }
+
+    @Test
+    void feedPageWalksStocksInIdOrder() {
+        StockSnapshot snapshot = StockSnapshot.of(1, List.of(
+                stock("105560", BANK, 77000), stock("005930", SEMICONDUCTOR, 81800),
+                stock("035420", null, 170000), stock("000660", SEMICONDUCTOR, 230000)));
+
+        assertEquals(List.of("000660", "005930"), ids(snapshot.feedPage(null, 2, Set.of())));
+        assertEquals(List.of("035420", "105560"), ids(snapshot.feedPage("005930", 2, Set.of())));
+        assertTrue(snapshot.feedPage("105560", 2, Set.of()).isEmpty());
+        // 커서 종목이 그 사이 삭제되어도 다음 종목부터 이어짐
+        assertEquals(List.of("035420", "105560"), ids(snapshot.feedPage("010000", 10, Set.of())));
+    }
+
+    @Test
+    void feedPageFiltersByCategoryAfterCursor() {
+        StockSnapshot snapshot = StockSnapshot.of(1, List.of(
+                stock("105560", BANK, 77000), stock("005930", SEMICONDUCTOR, 81800),
+                stock("035420", null, 170000), stock("000660", SEMICONDUCTOR, 230000)));
+
+        assertEquals(List.of("000660"), ids(snapshot.feedPage(null, 1, Set.of("SEMI"))));
+        assertEquals(List.of("005930"), ids(snapshot.feedPage("000660", 1, Set.of("SEMI"))));
+        assertTrue(snapshot.feedPage("005930", 1, Set.of("SEMI")).isEmpty());
+        assertEquals(List.of("005930", "105560"), ids(snapshot.feedPage("000660", 5, Set.of("SEMI", "BANK"))));
+    }
+
+    @Test
+    void feedCardsOfUnchangedStocksAreReused() {
+        StockSnapshot first = StockSnapshot.of(1, List.of(
+                stock("005930", SEMICONDUCTOR, 81800), stock("000660", SEMICONDUCTOR, 230000)));
+        StockSnapshot second = first.withChanges(2, List.of(stock("005930", SEMICONDUCTOR, 82000)), Set.of());
+
+        List<FeedCardDTO> before = first.feedPage(null, 10, Set.of());
+        List<FeedCardDTO> after = second.feedPage(null, 10, Set.of());
+        assertSame(before.get(0), after.get(0));
+        assertNotSame(before.get(1), after.get(1));
+        assertEquals(82000L, after.get(1).getClpr());
+    }
+
+    private static List<String> ids(List<FeedCardDTO> cards) {
+        return cards.stream().map(FeedCardDTO::getId).toList();
+    }
+}
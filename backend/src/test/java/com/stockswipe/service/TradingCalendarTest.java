@@ -0,0 +1,61 @@
+package com.stockswipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TradingCalendarTest {
+
+    // 2024년 설 연휴(2/9 금, 대체휴일 2/12 월)
+    private final TradingCalendar calendar = new TradingCalendar("0101, 0301,1225", "20240209,20240212,");
+
+    @Test
+    void weekendsAndHolidaysAreNotTradingDays() {
+        assertTrue(calendar.isTradingDay(LocalDate.of(2024, 1, 2)));
+        assertFalse(calendar.isTradingDay(LocalDate.of(2024, 1, 1)));     // 고정 휴장일
+        assertFalse(calendar.isTradingDay(LocalDate.of(2025, 3, 1)));     // 매년 같은 날짜
+        assertFalse(calendar.isTradingDay(LocalDate.of(2024, 2, 9)));     // 연도별 휴장일
+        assertTrue(calendar.isTradingDay(LocalDate.of(2025, 2, 10)));     // 다른 해 같은 날짜는 거래일
+        assertFalse(calendar.isTradingDay(LocalDate.of(2024, 2, 10)));    // 토요일
+        assertFalse(calendar.isTradingDay(LocalDate.of(2024, 2, 11)));    // 일요일
+    }
+
+    @Test
+    void previousTradingDaySkipsWeekendsAndHolidays() {
+        // 화요일 → 월요일
+        assertEquals(LocalDate.of(2024, 1, 8), calendar.previousTradingDay(LocalDate.of(2024, 1, 9)));
+        // 월요일 → 금요일
+        assertEquals(LocalDate.of(2024, 1, 5), calendar.previousTradingDay(LocalDate.of(2024, 1, 8)));
+        // 설 연휴 다음 날 → 연휴 전 목요일
+        assertEquals(LocalDate.of(2024, 2, 8), calendar.previousTradingDay(LocalDate.of(2024, 2, 13)));
+        // 1/2 → 연말 (12/30 토, 12/31 일)
+        assertEquals(LocalDate.of(2023, 12, 29), calendar.previousTradingDay(LocalDate.of(2024, 1, 2)));
+        // 당일이 거래일이어도 포함하지 않음
+        assertEquals(LocalDate.of(2024, 2, 7), calendar.previousTradingDay(LocalDate.of(2024, 2, 8)));
+    }
+
+    @Test
+    void tradingDaysIncludesBothEnds() {
+        assertEquals(List.of(
+                LocalDate.of(2024, 2, 7),
+                LocalDate.of(2024, 2, 8),
+                LocalDate.of(2024, 2, 13)
+        ), calendar.tradingDays(LocalDate.of(2024, 2, 7), LocalDate.of(2024, 2, 13)));
+
+        assertEquals(List.of(LocalDate.of(2024, 2, 8)),
+                calendar.tradingDays(LocalDate.of(2024, 2, 8), LocalDate.of(2024, 2, 8)));
+        assertTrue(calendar.tradingDays(LocalDate.of(2024, 2, 9), LocalDate.of(2024, 2, 12)).isEmpty());
+        assertTrue(calendar.tradingDays(LocalDate.of(2024, 2, 13), LocalDate.of(2024, 2, 7)).isEmpty());
+    }
+
+    @Test
+    void emptySettingsMeanWeekendsOnly() {
+        TradingCalendar weekendsOnly = new TradingCalendar("", "");
+
+        assertTrue(weekendsOnly.isTradingDay(LocalDate.of(2024, 1, 1)));
+        assertEquals(LocalDate.of(2024, 1, 5), weekendsOnly.previousTradingDay(LocalDate.of(2024, 1, 8)));
+    }
+}
@@ -150,7 +150,7 @@ response=$(curl -X POST http://localhost:8080/api/stocks/update-from-api \
 http_code=$(echo "$response" | tail -n 1)
 response_body=$(echo "$response" | head -n -1)
 
-if [ "$http_code" = "200" ]; then
+if [ "$http_code" = "200" ] || [ "$http_code" = "202" ]; then
     echo -e "${GREEN}✅ 업데이트 요청 성공!${NC}"
     echo ""
     echo "응답:"
@@ -162,12 +162,22 @@ else
 fi
 
 echo ""
-echo -e "${CYAN}📋 실시간 로그 모니터링 (Ctrl+C로 중단 가능):${NC}"
+echo -e "${CYAN}📋 작업 진행 상황 (Ctrl+C로 중단 가능):${NC}"
 echo ""
 
-# 로그 모니터링 (3분)
-if [ -f "logs/stock-update-backend.log" ]; then
-    timeout 180 tail -f logs/stock-update-backend.log 2>/dev/null | grep --line-buffered -E "업데이트|완료|성공|실패|✅|❌|⚠️" || true
+# 비동기 작업 상태 조회 (GET /api/jobs/{id}) - 끝날 때까지 2초마다 확인
+job_id=$(echo "$response_body" | python3 -c "import sys, json; print(json.load(sys.stdin).get('id', ''))" 2>/dev/null)
+if [ -n "$job_id" ]; then
+    while true; do
+        job_json=$(curl -s http://localhost:8080/api/jobs/$job_id)
+        job_status=$(echo "$job_json" | python3 -c "import sys, json; print(json.load(sys.stdin).get('status', ''))" 2>/dev/null)
+        echo -e "${BLUE}   상태: ${job_status}${NC}"
+        if [ "$job_status" != "RUNNING" ]; then
+            echo "$job_json" | python3 -m json.tool 2>/dev/null || echo "$job_json"
+            break
+        fi
+        sleep 2
+    done
 fi
 
 echo ""
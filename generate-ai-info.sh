@@ -3,7 +3,7 @@
 echo "🤖 OpenAI를 사용하여 종목 정보를 생성합니다..."
 echo ""
 echo "⚠️  주의: 160개 종목 × 3개 요청 = 총 480회 API 호출"
-echo "⚠️  API 호출 제한을 고려하여 각 종목마다 1초 대기합니다."
+echo "⚠️  API 호출 제한(ingest.rate-limit.openai.*)에 맞춰 병렬로 처리합니다."
 echo "⚠️  예상 소요 시간: 약 3분"
 echo ""
 
@@ -17,6 +17,19 @@ echo ""
 echo "📊 API 호출 시작..."
 response=$(curl -s -X POST http://localhost:8080/api/stocks/generate-ai-info)
 
+job_id=$(echo "$response" | python3 -c "import sys, json; print(json.load(sys.stdin).get('id', ''))")
+echo "🆔 작업 ID: $job_id"
+
+# 비동기 작업 상태 조회 - 끝날 때까지 5초마다 확인
+while true; do
+    job_json=$(curl -s http://localhost:8080/api/jobs/$job_id)
+    progress=$(echo "$job_json" | python3 -c "import sys, json; j = json.load(sys.stdin); print(j['status'], str(j['done']) + '/' + str(j['total']), '실패', j['failed'])")
+    echo "   $progress"
+    case "$progress" in
+        RUNNING*) sleep 5 ;;
+        *) break ;;
+    esac
+done
+
 echo "✅ 완료!"
-echo "$response" | python3 -c "import sys, json; print(json.load(sys.stdin).get('message', 'Unknown'))"
 